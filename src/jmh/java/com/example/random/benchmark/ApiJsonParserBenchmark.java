@@ -0,0 +1,43 @@
+package com.example.random.benchmark;
+
+import com.example.random.model.ProblemInfo;
+import com.example.random.scraper.parsers.ApiJsonParser;
+import com.example.random.scraper.parsers.ApiParseResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *   API stat_status_pairs:       ForkJoinPool
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiJsonParserBenchmark {
+
+    @Param({"3500", "50000"})
+    public int problemCount;
+
+    private ApiJsonParser parser;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        parser = new ApiJsonParser();
+        json = BenchmarkFixtures.apiJson(problemCount);
+    }
+
+    @Benchmark
+    public Map<String, ProblemInfo> parseProblemsFromJson() {
+        return parser.parseProblemsFromJson(json);
+    }
+
+    @Benchmark
+    public ApiParseResult parseParallel() {
+        return parser.parseParallel(json);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.random.benchmark;
+
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
+import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemInfo;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ *    :  ,  API    
+ */
+final class BenchmarkFixtures {
+    private static final String[] WORDS = {
+            "Two", "Sum", "Add", "Numbers", "Longest", "Substring", "Without", "Repeating", "Characters",
+            "Median", "of", "Sorted", "Arrays", "Palindromic", "Zigzag", "Conversion", "Reverse", "Integer",
+            "String", "to", "Regular", "Expression", "Matching", "Container", "With", "Most", "Water",
+            "Roman", "Common", "Prefix", "Closest", "Letter", "Combinations", "Phone", "Number", "Remove",
+            "Nth", "Node", "From", "End", "List", "Valid", "Parentheses", "Merge", "Generate", "Swap",
+            "Nodes", "in", "Pairs", "Search", "Rotated", "Array", "Find", "First", "and", "Last",
+            "Position", "Element", "Binary", "Tree", "Maximum", "Depth", "Path", "Minimum", "Window",
+            "Course", "Schedule", "Word", "Ladder", "Islands", "Kth", "Largest", "Stream", "Interval"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     *        ,   LeetCode,
+     *     ,    API
+     */
+    static Map<String, ProblemInfo> catalog(int size) {
+        ProblemCatalog.Builder problems = ProblemCatalog.builder(size);
+        Random random = new Random(size);
+        for (int number = 1; number <= size; number++) {
+            problems.add(number, title(random, number), difficulty(random).getLevel());
+        }
+        return problems.build().asMap();
+    }
+
+    /**
+     *  API /api/problems/all/   stat_status_pairs      
+     */
+    static String apiJson(int size) {
+        Random random = new Random(size);
+        StringBuilder json = new StringBuilder(size * 420);
+        json.append("{\"user_name\": \"\", \"num_solved\": 0, \"num_total\": ").append(size)
+                .append(", \"ac_easy\": 0, \"ac_medium\": 0, \"ac_hard\": 0, \"stat_status_pairs\": [");
+        for (int i = 0; i < size; i++) {
+            int number = size - i;
+            String title = title(random, number);
+            String slug = title.toLowerCase().replace(' ', '-');
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"stat\": {\"question_id\": ").append(number + 1000)
+                    .append(", \"question__article__live\": null, \"question__article__slug\": null")
+                    .append(", \"question__article__has_video_solution\": null")
+                    .append(", \"question__title\": \"").append(title)
+                    .append("\", \"question__title_slug\": \"").append(slug)
+                    .append("\", \"question__hide\": false, \"total_acs\": ").append(random.nextInt(5_000_000))
+                    .append(", \"total_submitted\": ").append(random.nextInt(10_000_000))
+                    .append(", \"frontend_question_id\": ").append(number)
+                    .append(", \"is_new_question\": false}, \"status\": null, \"difficulty\": {\"level\": ")
+                    .append(difficulty(random).getLevel())
+                    .append("}, \"paid_only\": ").append(random.nextInt(10) == 0)
+                    .append(", \"is_favor\": false, \"frequency\": 0, \"progress\": 0}");
+        }
+        json.append("], \"frequency_high\": 0, \"frequency_mid\": 0, \"category_slug\": \"all\"}");
+        return json.toString();
+    }
+
+    /**
+     *      ,     :   ,
+     *        ,    
+     */
+    static Set<String> solvedTitles(Map<String, ProblemInfo> catalog, int count) {
+        Random random = new Random(count);
+        String[] titles = catalog.keySet().toArray(new String[0]);
+        Set<String> solved = new LinkedHashSet<>(count * 2);
+        while (solved.size() < Math.min(count, titles.length)) {
+            String title = titles[random.nextInt(titles.length)];
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                title = title.toLowerCase();
+            } else if (kind == 1) {
+                title = title + "?";
+            } else if (kind == 2) {
+                title = "Unknown " + title(random, random.nextInt(100_000));
+            }
+            solved.add(title);
+        }
+        return solved;
+    }
+
+    /**
+     *       [1, max]
+     */
+    static ExclusionSet exclusions(int count, int max) {
+        Random random = new Random(count ^ max);
+        ExclusionSet excluded = new ExclusionSet();
+        while (excluded.size() < Math.min(count, max)) {
+            excluded.add(1 + random.nextInt(max));
+        }
+        return excluded;
+    }
+
+    private static String title(Random random, int number) {
+        int words = 2 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return title.append(roman(number)).toString();
+    }
+
+    private static String roman(int number) {
+        StringBuilder result = new StringBuilder();
+        int[] values = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+        String[] symbols = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+        int rest = number;
+        for (int i = 0; i < values.length; i++) {
+            while (rest >= values[i]) {
+                result.append(symbols[i]);
+                rest -= values[i];
+            }
+        }
+        return result.toString();
+    }
+
+    private static ProblemDifficulty difficulty(Random random) {
+        int roll = random.nextInt(100);
+        return roll < 25 ? ProblemDifficulty.EASY : roll < 77 ? ProblemDifficulty.MEDIUM : ProblemDifficulty.HARD;
+    }
+}
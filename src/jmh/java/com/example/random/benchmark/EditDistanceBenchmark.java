@@ -0,0 +1,93 @@
+package com.example.random.benchmark;
+
+import com.example.random.model.ProblemInfo;
+import com.example.random.scraper.BoundedEditDistance;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *          .
+ *  similar   ,  random -   
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EditDistanceBenchmark {
+    private static final int PAIRS = 256;
+    private static final double SIMILARITY_THRESHOLD = 0.8;
+
+    @Param({"similar", "random"})
+    public String pairs;
+
+    private String[] left;
+    private String[] right;
+
+    @Setup
+    public void setUp() {
+        Map<String, ProblemInfo> catalog = BenchmarkFixtures.catalog(PAIRS * 2);
+        String[] titles = catalog.keySet().stream().map(String::toLowerCase).toArray(String[]::new);
+        Random random = new Random(PAIRS);
+        left = new String[PAIRS];
+        right = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            left[i] = titles[i];
+            right[i] = "similar".equals(pairs) ? mutate(titles[i], random) : titles[PAIRS + i];
+        }
+    }
+
+    @Benchmark
+    public void fullMatrix(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(fullMatrixDistance(left[i], right[i]));
+        }
+    }
+
+    @Benchmark
+    public void bounded(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            int maxLen = Math.max(left[i].length(), right[i].length());
+            int bound = (int) Math.floor(maxLen * (1 - SIMILARITY_THRESHOLD));
+            blackhole.consume(BoundedEditDistance.distance(left[i], right[i], bound));
+        }
+    }
+
+    /**
+     *   ProblemMatcher:  (len1 + 1) x (len2 + 1)   
+     */
+    private static int fullMatrixDistance(String s1, String s2) {
+        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+
+        for (int i = 0; i <= s1.length(); i++) {
+            for (int j = 0; j <= s2.length(); j++) {
+                if (i == 0) {
+                    dp[i][j] = j;
+                } else if (j == 0) {
+                    dp[i][j] = i;
+                } else {
+                    dp[i][j] = Math.min(
+                            Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1),
+                            dp[i - 1][j - 1] + (s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1)
+                    );
+                }
+            }
+        }
+
+        return dp[s1.length()][s2.length()];
+    }
+
+    private static String mutate(String title, Random random) {
+        StringBuilder result = new StringBuilder(title);
+        for (int edit = 0; edit < 2; edit++) {
+            int position = random.nextInt(result.length());
+            result.setCharAt(position, (char) ('a' + random.nextInt(26)));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.random.benchmark;
+
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemInfo;
+import com.example.random.scraper.ProblemMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *      
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemMatcherBenchmark {
+
+    @Param({"3500"})
+    public int catalogSize;
+
+    @Param({"50", "500", "3000"})
+    public int solvedCount;
+
+    private ProblemMatcher matcher;
+    private Map<String, ProblemInfo> catalog;
+    private Set<String> solvedTitles;
+
+    @Setup
+    public void setUp() {
+        matcher = new ProblemMatcher();
+        catalog = BenchmarkFixtures.catalog(catalogSize);
+        solvedTitles = BenchmarkFixtures.solvedTitles(catalog, solvedCount);
+    }
+
+    @Benchmark
+    public ExclusionSet matchProblemsToNumbers() {
+        return matcher.matchProblemsToNumbers(solvedTitles, catalog);
+    }
+}
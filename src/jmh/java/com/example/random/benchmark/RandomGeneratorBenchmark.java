@@ -0,0 +1,64 @@
+package com.example.random.benchmark;
+
+import com.example.random.exception.LeetCodeExceptions.ValidationException;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemInfo;
+import com.example.random.service.RandomGeneratorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    ,      ,   
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomGeneratorBenchmark {
+
+    @Param({"500", "3500"})
+    public int catalogSize;
+
+    @Param({"10000", "10000000"})
+    public int rangeMax;
+
+    @Param({"0", "300", "3000"})
+    public int excludeSize;
+
+    private RandomGeneratorService service;
+    private Map<String, ProblemInfo> catalog;
+    private ExclusionSet rangeExclusions;
+    private ExclusionSet problemExclusions;
+    private Set<ProblemDifficulty> difficulties;
+
+    @Setup
+    public void setUp() {
+        service = new RandomGeneratorService();
+        catalog = BenchmarkFixtures.catalog(catalogSize);
+        rangeExclusions = BenchmarkFixtures.exclusions(excludeSize, rangeMax);
+        problemExclusions = BenchmarkFixtures.exclusions(Math.min(excludeSize, catalogSize / 2), catalogSize);
+        difficulties = EnumSet.of(ProblemDifficulty.MEDIUM, ProblemDifficulty.HARD);
+    }
+
+    @Benchmark
+    public Integer generateRandomNumber() throws ValidationException {
+        return service.generateRandomNumber(1, rangeMax, rangeExclusions);
+    }
+
+    @Benchmark
+    public Integer generateRandomProblemNumber() throws ValidationException {
+        return service.generateRandomProblemNumber(1, catalogSize, problemExclusions, difficulties, catalog);
+    }
+
+    @Benchmark
+    public RandomGeneratorService.ProblemStatistics getProblemStatistics() {
+        return service.getProblemStatistics(1, catalogSize, problemExclusions, difficulties, catalog);
+    }
+}
@@ -5,13 +5,27 @@ package com.example.random.config;
  */
 public class ScrapingConfig {
     public static final int DEFAULT_WAIT_TIME = 3000;
-    public static final int JSON_WAIT_TIME = 2000;
+    public static final int API_RESPONSE_TIMEOUT = 30000;
     public static final int SOLVED_PROBLEMS_WAIT = 5000;
     public static final int MAX_RETRY_ATTEMPTS = 3;
     public static final int RETRY_DELAY = 1000;
     public static final String LEETCODE_API_URL = "https://leetcode.com/api/problems/all/";
     public static final String LEETCODE_PROFILE_URL_TEMPLATE = "https://leetcode.com/u/%s/";
 
+    //   :        ,   -  
+    public static final long CACHE_SOFT_EXPIRY_TIME = 24 * 60 * 60 * 1000L;
+    public static final long CACHE_HARD_EXPIRY_TIME = 7 * 24 * 60 * 60 * 1000L;
+    public static final long CACHE_REFRESH_BACKOFF = 60 * 1000L;
+    public static final long CACHE_REFRESH_MAX_BACKOFF = 60 * 60 * 1000L;
+
+    //     :      LRU
+    public static final long SOLVED_CACHE_TTL = 15 * 60 * 1000L;
+    public static final int SOLVED_CACHE_MAX_ENTRIES = 32;
+    public static final long SOLVED_CACHE_MAX_BYTES = 4 * 1024 * 1024L;
+
+    //      ( , )
+    public static final String APP_DATA_DIR = System.getProperty("user.home") + "/.leetcode-random";
+
     public static final String[] USER_AGENTS = {
             "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36",
             "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36",
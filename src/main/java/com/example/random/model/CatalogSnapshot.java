@@ -0,0 +1,204 @@
+package com.example.random.model;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.CRC32C;
+
+/**
+ *        ,     .
+ *   ,     ( paid_only, ,  ,
+ *  ,  )     slug.     CRC32C.
+ *    JSON:       .
+ */
+@Value
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x50434154;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int TIMESTAMP_OFFSET = 8;
+    private static final int TITLES_LATIN1 = 1;
+    private static final int SLUGS_LATIN1 = 2;
+
+    ProblemCatalog catalog;
+    long timestamp;
+    long payloadHash;
+    /**
+     *   API,    ,  -1,   
+     */
+    int payloadLength;
+
+    /**
+     *   ;   
+     */
+    public static void write(Path file, ProblemCatalog catalog, long timestamp,
+                             long payloadHash, int payloadLength) throws IOException {
+        int count = catalog.size();
+        PackedStrings titles = catalog.titlesColumn();
+        PackedStrings slugs = catalog.slugsColumn();
+        int paidWords = (count + 63) >>> 6;
+
+        int bodySize = paidWords * Long.BYTES + Integer.BYTES * (count * 3 + (count + 1) * 2)
+                + count + titles.data().length + slugs.data().length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize).order(ByteOrder.BIG_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(timestamp);
+        buffer.putLong(payloadHash);
+        buffer.putInt(payloadLength);
+        buffer.putInt(count);
+        buffer.putInt((titles.isLatin1() ? TITLES_LATIN1 : 0) | (slugs.isLatin1() ? SLUGS_LATIN1 : 0));
+        buffer.putInt(titles.data().length);
+        buffer.putInt(slugs.data().length);
+        int checksumPosition = buffer.position();
+        buffer.position(HEADER_SIZE);
+
+        long[] paidOnly = catalog.paidOnlyColumn().toLongArray();
+        for (int i = 0; i < paidWords; i++) {
+            buffer.putLong(i < paidOnly.length ? paidOnly[i] : 0);
+        }
+        putInts(buffer, catalog.numbersColumn(), count);
+        putInts(buffer, titles.offsets(), count + 1);
+        putInts(buffer, slugs.offsets(), count + 1);
+        putInts(buffer, catalog.totalAcceptedColumn(), count);
+        putInts(buffer, catalog.totalSubmittedColumn(), count);
+        buffer.put(catalog.levelsColumn(), 0, count);
+        buffer.put(titles.data());
+        buffer.put(slugs.data());
+
+        buffer.putInt(checksumPosition, checksum(buffer, HEADER_SIZE, buffer.capacity()));
+        buffer.flip();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     *  ,    .      - IOException
+     */
+    public static CatalogSnapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid catalog snapshot size: " + size);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unknown catalog snapshot format");
+        }
+        long timestamp = buffer.getLong();
+        long payloadHash = buffer.getLong();
+        int payloadLength = buffer.getInt();
+        int count = buffer.getInt();
+        int flags = buffer.getInt();
+        int titleBytes = buffer.getInt();
+        int slugBytes = buffer.getInt();
+        int checksum = buffer.getInt();
+
+        int paidWords = (count + 63) >>> 6;
+        long bodySize = (long) paidWords * Long.BYTES + (long) Integer.BYTES * (count * 3L + (count + 1L) * 2)
+                + count + (long) titleBytes + slugBytes;
+        if (count < 0 || titleBytes < 0 || slugBytes < 0 || HEADER_SIZE + bodySize != buffer.capacity()) {
+            throw new IOException("Corrupted catalog snapshot header");
+        }
+        if (checksum(buffer, HEADER_SIZE, buffer.capacity()) != checksum) {
+            throw new IOException("Catalog snapshot checksum mismatch");
+        }
+
+        buffer.position(HEADER_SIZE);
+        long[] paidOnly = new long[paidWords];
+        buffer.asLongBuffer().get(paidOnly);
+        buffer.position(buffer.position() + paidWords * Long.BYTES);
+        int[] numbers = getInts(buffer, count);
+        int[] titleOffsets = getInts(buffer, count + 1);
+        int[] slugOffsets = getInts(buffer, count + 1);
+        int[] totalAccepted = getInts(buffer, count);
+        int[] totalSubmitted = getInts(buffer, count);
+        byte[] levels = new byte[count];
+        buffer.get(levels);
+        byte[] titleData = new byte[titleBytes];
+        buffer.get(titleData);
+        byte[] slugData = new byte[slugBytes];
+        buffer.get(slugData);
+
+        boolean titlesLatin1 = (flags & TITLES_LATIN1) != 0;
+        boolean slugsLatin1 = (flags & SLUGS_LATIN1) != 0;
+        checkOffsets(titleOffsets, titlesLatin1 ? titleBytes : titleBytes / 2);
+        checkOffsets(slugOffsets, slugsLatin1 ? slugBytes : slugBytes / 2);
+        for (byte level : levels) {
+            if (level < 1 || level > 3) {
+                throw new IOException("Invalid difficulty level in catalog snapshot: " + level);
+            }
+        }
+
+        ProblemCatalog catalog = new ProblemCatalog(count, numbers, levels,
+                new PackedStrings(titleData, titleOffsets, titlesLatin1),
+                new PackedStrings(slugData, slugOffsets, slugsLatin1),
+                BitSet.valueOf(paidOnly), totalAccepted, totalSubmitted);
+        return new CatalogSnapshot(catalog, timestamp, payloadHash, payloadLength);
+    }
+
+    /**
+     *     ,   
+     */
+    public static void touch(Path file, long timestamp) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.BIG_ENDIAN).putLong(0, timestamp);
+            channel.write(value, TIMESTAMP_OFFSET);
+        }
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values, int count) {
+        buffer.asIntBuffer().put(values, 0, count);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static void checkOffsets(int[] offsets, int length) throws IOException {
+        if (offsets[0] != 0 || offsets[offsets.length - 1] != length) {
+            throw new IOException("Corrupted string offsets in catalog snapshot");
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IOException("Corrupted string offsets in catalog snapshot");
+            }
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer body = buffer.duplicate();
+        body.limit(to).position(from);
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,912 @@
+package com.example.random.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ *        Integer.
+ *    Roaring bitmap:     16 ,
+ *       ( 4096 ),   .
+ *  ,   HashSet.
+ */
+public final class ExclusionSet {
+    private static final int ARRAY_LIMIT = 4096;
+    //          ,  add/remove
+    //  ARRAY_LIMIT       
+    private static final int BITMAP_SHRINK_LIMIT = ARRAY_LIMIT / 2;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private int[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int cardinality;
+
+    public ExclusionSet() {
+        this.keys = new int[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     *     , null 
+     */
+    public static ExclusionSet of(Collection<Integer> numbers) {
+        ExclusionSet set = new ExclusionSet();
+        if (numbers != null) {
+            for (Integer number : numbers) {
+                if (number != null) {
+                    set.add(number);
+                }
+            }
+        }
+        return set;
+    }
+
+    public static ExclusionSet of(int... numbers) {
+        ExclusionSet set = new ExclusionSet();
+        for (int number : numbers) {
+            set.add(number);
+        }
+        return set;
+    }
+
+    /**
+     *  ,  true,      
+     */
+    public boolean add(int value) {
+        int key = keyOf(value);
+        char low = lowOf(value);
+        int position = findContainer(key);
+
+        if (position < 0) {
+            position = -position - 1;
+            insertContainer(position, key, new ArrayContainer());
+        }
+
+        Container container = containers[position];
+        if (container.contains(low)) {
+            return false;
+        }
+
+        containers[position] = container.add(low);
+        cardinality++;
+        return true;
+    }
+
+    /**
+     *     [from, to]
+     */
+    public void addRange(int from, int to) {
+        if (from > to) {
+            return;
+        }
+
+        long start = from;
+        while (start <= to) {
+            int value = (int) start;
+            int key = keyOf(value);
+            long chunkEnd = Math.min(to, ((long) (value >> 16) << 16) + CHUNK_SIZE - 1);
+            char lowFrom = lowOf(value);
+            char lowTo = lowOf((int) chunkEnd);
+
+            int position = findContainer(key);
+            if (position < 0) {
+                position = -position - 1;
+                insertContainer(position, key, new ArrayContainer());
+            }
+
+            Container container = containers[position];
+            int before = container.cardinality();
+            containers[position] = container.addRange(lowFrom, lowTo);
+            cardinality += containers[position].cardinality() - before;
+
+            start = chunkEnd + 1;
+        }
+    }
+
+    /**
+     *  ,  true,     
+     */
+    public boolean remove(int value) {
+        int position = findContainer(keyOf(value));
+        if (position < 0) {
+            return false;
+        }
+
+        Container container = containers[position];
+        char low = lowOf(value);
+        if (!container.contains(low)) {
+            return false;
+        }
+
+        Container updated = container.remove(low);
+        cardinality--;
+        if (updated.cardinality() == 0) {
+            removeContainer(position);
+        } else {
+            containers[position] = updated;
+        }
+        return true;
+    }
+
+    /**
+     *     O(1)     O(log 4096)  
+     */
+    public boolean contains(int value) {
+        int position = findContainer(keyOf(value));
+        return position >= 0 && containers[position].contains(lowOf(value));
+    }
+
+    public int size() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     *      [min, max]
+     */
+    public int countInRange(int min, int max) {
+        if (min > max || cardinality == 0) {
+            return 0;
+        }
+        return rank(max) - (min == Integer.MIN_VALUE ? 0 : rank(min - 1));
+    }
+
+    /**
+     *   ,   value
+     */
+    public int rank(int value) {
+        int key = keyOf(value);
+        int count = 0;
+        for (int i = 0; i < containerCount; i++) {
+            if (keys[i] < key) {
+                count += containers[i].cardinality();
+            } else {
+                if (keys[i] == key) {
+                    count += containers[i].rank(lowOf(value));
+                }
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     *     
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(baseOf(keys[i]), action);
+        }
+    }
+
+    /**
+     *     
+     */
+    public int[] toArray() {
+        int[] result = new int[cardinality];
+        int offset = 0;
+        for (int i = 0; i < containerCount; i++) {
+            offset = containers[i].copyTo(baseOf(keys[i]), result, offset);
+        }
+        return result;
+    }
+
+    /**
+     *     [min, max]  
+     */
+    public int[] toArray(int min, int max) {
+        int[] result = new int[countInRange(min, max)];
+        int[] offset = new int[1];
+        forEachInRange(min, max, value -> result[offset[0]++] = value);
+        return result;
+    }
+
+    /**
+     *      [min, max]  
+     */
+    public void forEachInRange(int min, int max, IntConsumer action) {
+        if (min > max) {
+            return;
+        }
+
+        int minKey = keyOf(min);
+        int maxKey = keyOf(max);
+        int start = findContainer(minKey);
+        if (start < 0) {
+            start = -start - 1;
+        }
+
+        for (int i = start; i < containerCount && keys[i] <= maxKey; i++) {
+            int base = baseOf(keys[i]);
+            if (keys[i] != minKey && keys[i] != maxKey) {
+                containers[i].forEach(base, action);
+            } else {
+                containers[i].forEach(base, value -> {
+                    if (value >= min && value <= max) {
+                        action.accept(value);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     *      [from, to]  ,    
+     */
+    public void forEachRun(RunConsumer action) {
+        RunMerger merger = new RunMerger(action);
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEachRun(baseOf(keys[i]), merger);
+        }
+        merger.flush();
+    }
+
+    /**
+     *  ,    
+     */
+    public ExclusionSet union(ExclusionSet other) {
+        ExclusionSet result = new ExclusionSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j >= other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= containerCount || other.keys[j] < keys[i]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     *  ,    
+     */
+    public ExclusionSet intersection(ExclusionSet other) {
+        ExclusionSet result = new ExclusionSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     *  :   ,    ;    
+     */
+    public ExclusionSet andNot(ExclusionSet other) {
+        ExclusionSet result = new ExclusionSet();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.containerCount && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (container.cardinality() > 0) {
+                result.appendContainer(keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *     
+     */
+    public void addAll(ExclusionSet other) {
+        ExclusionSet merged = union(other);
+        this.keys = merged.keys;
+        this.containers = merged.containers;
+        this.containerCount = merged.containerCount;
+        this.cardinality = merged.cardinality;
+    }
+
+    public ExclusionSet copy() {
+        ExclusionSet result = new ExclusionSet();
+        for (int i = 0; i < containerCount; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     *     
+     */
+    public long estimatedBytes() {
+        long bytes = 32 + 16L + keys.length * 4L + 16L + containers.length * 4L;
+        for (int i = 0; i < containerCount; i++) {
+            bytes += containers[i].estimatedBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExclusionSet)) {
+            return false;
+        }
+
+        ExclusionSet other = (ExclusionSet) o;
+        if (cardinality != other.cardinality || containerCount != other.containerCount) {
+            return false;
+        }
+        for (int i = 0; i < containerCount; i++) {
+            if (keys[i] != other.keys[i] || !containers[i].sameValues(other.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(value -> hash[0] = 31 * hash[0] + value);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return "ExclusionSet[size=" + cardinality + "]";
+    }
+
+    private static int keyOf(int value) {
+        //      
+        return (value >> 16) + (CHUNK_SIZE >> 1);
+    }
+
+    private static int baseOf(int key) {
+        return (key - (CHUNK_SIZE >> 1)) << 16;
+    }
+
+    private static char lowOf(int value) {
+        return (char) value;
+    }
+
+    private int findContainer(int key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int position, int key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, containerCount - position);
+        System.arraycopy(containers, position, containers, position + 1, containerCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        containerCount++;
+    }
+
+    private void appendContainer(int key, Container container) {
+        insertContainer(containerCount, key, container);
+        cardinality += container.cardinality();
+    }
+
+    private void removeContainer(int position) {
+        System.arraycopy(keys, position + 1, keys, position, containerCount - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, containerCount - position - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    /**
+     *     
+     */
+    @FunctionalInterface
+    public interface RunConsumer {
+        void accept(int from, int to);
+    }
+
+    /**
+     *    ,  
+     */
+    private static final class RunMerger implements RunConsumer {
+        private final RunConsumer target;
+        private boolean pending;
+        private int from;
+        private int to;
+
+        RunMerger(RunConsumer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void accept(int runFrom, int runTo) {
+            if (pending && (long) to + 1 == runFrom) {
+                to = runTo;
+                return;
+            }
+            flush();
+            from = runFrom;
+            to = runTo;
+            pending = true;
+        }
+
+        void flush() {
+            if (pending) {
+                target.accept(from, to);
+                pending = false;
+            }
+        }
+    }
+
+    /**
+     *      65536     
+     */
+    private abstract static class Container {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container addRange(char from, char to);
+
+        abstract Container remove(char low);
+
+        abstract int rank(char low);
+
+        abstract void forEach(int base, IntConsumer action);
+
+        abstract void forEachRun(int base, RunConsumer action);
+
+        abstract int copyTo(int base, int[] target, int offset);
+
+        abstract Container copy();
+
+        abstract long estimatedBytes();
+
+        abstract BitmapContainer toBitmap();
+
+        Container or(Container other) {
+            Container larger = cardinality() >= other.cardinality() ? this : other;
+            Container smaller = larger == this ? other : this;
+            BitmapContainer result = larger.toBitmap();
+            smaller.forEach(0, value -> result.set((char) value));
+            return result.optimize();
+        }
+
+        Container and(Container other) {
+            Container smaller = cardinality() <= other.cardinality() ? this : other;
+            Container larger = smaller == this ? other : this;
+            ArrayContainer result = new ArrayContainer();
+            smaller.forEach(0, value -> {
+                if (larger.contains((char) value)) {
+                    result.append((char) value);
+                }
+            });
+            return result;
+        }
+
+        Container andNot(Container other) {
+            ArrayContainer result = new ArrayContainer();
+            forEach(0, value -> {
+                if (!other.contains((char) value)) {
+                    result.append((char) value);
+                }
+            });
+            return result.cardinality() > ARRAY_LIMIT ? result.toBitmap() : result;
+        }
+
+        boolean sameValues(Container other) {
+            if (cardinality() != other.cardinality()) {
+                return false;
+            }
+            int[] mine = new int[cardinality()];
+            int[] theirs = new int[other.cardinality()];
+            copyTo(0, mine, 0);
+            other.copyTo(0, theirs, 0);
+            return Arrays.equals(mine, theirs);
+        }
+    }
+
+    /**
+     *  :    16 
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this.values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (size >= ARRAY_LIMIT) {
+                return toBitmap().add(low);
+            }
+
+            int position = -Arrays.binarySearch(values, 0, size, low) - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, values.length * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container addRange(char from, char to) {
+            if (size + (to - from + 1) > ARRAY_LIMIT) {
+                return toBitmap().addRange(from, to);
+            }
+
+            char[] merged = new char[size + (to - from + 1)];
+            int count = 0;
+            int i = 0;
+            while (i < size && values[i] < from) {
+                merged[count++] = values[i++];
+            }
+            for (int value = from; value <= to; value++) {
+                merged[count++] = (char) value;
+            }
+            while (i < size && values[i] <= to) {
+                i++;
+            }
+            while (i < size) {
+                merged[count++] = values[i++];
+            }
+            return new ArrayContainer(merged, count);
+        }
+
+        @Override
+        Container remove(char low) {
+            int position = Arrays.binarySearch(values, 0, size, low);
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return this;
+        }
+
+        @Override
+        int rank(char low) {
+            int position = Arrays.binarySearch(values, 0, size, low);
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        void forEachRun(int base, RunConsumer action) {
+            int start = 0;
+            for (int i = 1; i <= size; i++) {
+                if (i == size || values[i] != values[i - 1] + 1) {
+                    action.accept(base | values[start], base | values[i - 1]);
+                    start = i;
+                }
+            }
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset) {
+            for (int i = 0; i < size; i++) {
+                target[offset++] = base | values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+
+        @Override
+        long estimatedBytes() {
+            return 24 + 16L + values.length * 2L;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof ArrayContainer && size + other.cardinality() <= ARRAY_LIMIT) {
+                ArrayContainer array = (ArrayContainer) other;
+                char[] merged = new char[size + array.size];
+                int i = 0;
+                int j = 0;
+                int count = 0;
+                while (i < size || j < array.size) {
+                    if (j >= array.size || (i < size && values[i] < array.values[j])) {
+                        merged[count++] = values[i++];
+                    } else if (i >= size || array.values[j] < values[i]) {
+                        merged[count++] = array.values[j++];
+                    } else {
+                        merged[count++] = values[i++];
+                        j++;
+                    }
+                }
+                return new ArrayContainer(merged, count);
+            }
+            return super.or(other);
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                return Arrays.equals(values, 0, size, array.values, 0, array.size);
+            }
+            return super.sameValues(other);
+        }
+
+        void append(char low) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = low;
+        }
+    }
+
+    /**
+     *  :    65536 
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this.words = new long[BITMAP_WORDS];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            set(low);
+            return this;
+        }
+
+        @Override
+        Container addRange(char from, char to) {
+            int firstWord = from >>> 6;
+            int lastWord = to >>> 6;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long mask = -1L;
+                if (w == firstWord) {
+                    mask &= -1L << (from & 63);
+                }
+                if (w == lastWord) {
+                    mask &= -1L >>> (63 - (to & 63));
+                }
+                cardinality += Long.bitCount(mask & ~words[w]);
+                words[w] |= mask;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality <= BITMAP_SHRINK_LIMIT ? optimize() : this;
+        }
+
+        @Override
+        int rank(char low) {
+            int word = low >>> 6;
+            int count = 0;
+            for (int w = 0; w < word; w++) {
+                count += Long.bitCount(words[w]);
+            }
+            return count + Long.bitCount(words[word] & (-1L >>> (63 - (low & 63))));
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        void forEachRun(int base, RunConsumer action) {
+            int from = nextSetBit(0);
+            while (from >= 0) {
+                int end = nextClearBit(from);
+                action.accept(base | from, base | (end - 1));
+                from = end < CHUNK_SIZE ? nextSetBit(end) : -1;
+            }
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    target[offset++] = base | (w << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        long estimatedBytes() {
+            return 24 + 16L + BITMAP_WORDS * 8L;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return (BitmapContainer) copy();
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof BitmapContainer) {
+                long[] result = new long[BITMAP_WORDS];
+                long[] otherWords = ((BitmapContainer) other).words;
+                int count = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] = words[w] & otherWords[w];
+                    count += Long.bitCount(result[w]);
+                }
+                return new BitmapContainer(result, count).optimize();
+            }
+            return super.and(other);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            if (other instanceof BitmapContainer) {
+                long[] result = new long[BITMAP_WORDS];
+                long[] otherWords = ((BitmapContainer) other).words;
+                int count = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] = words[w] & ~otherWords[w];
+                    count += Long.bitCount(result[w]);
+                }
+                return new BitmapContainer(result, count).optimize();
+            }
+            BitmapContainer result = new BitmapContainer(words.clone(), cardinality);
+            other.forEach(0, value -> result.clear((char) value));
+            return result.optimize();
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof BitmapContainer) {
+                return cardinality == other.cardinality() && Arrays.equals(words, ((BitmapContainer) other).words);
+            }
+            return super.sameValues(other);
+        }
+
+        void clear(char low) {
+            long bit = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & bit) != 0) {
+                words[word] &= ~bit;
+                cardinality--;
+            }
+        }
+
+        private int nextSetBit(int from) {
+            int w = from >>> 6;
+            long word = words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        private int nextClearBit(int from) {
+            int w = from >>> 6;
+            long word = ~words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS) {
+                    return CHUNK_SIZE;
+                }
+                word = ~words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        void set(char low) {
+            long bit = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & bit) == 0) {
+                words[word] |= bit;
+                cardinality++;
+            }
+        }
+
+        /**
+         *    ,    
+         */
+        Container optimize() {
+            if (cardinality > ARRAY_LIMIT) {
+                return this;
+            }
+            char[] values = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.random.model;
+
+/**
+ *      .
+ *    :     k-   O(log n).
+ */
+public final class FenwickTree {
+    private final int[] tree;
+    private final int size;
+    private final int highestBit;
+
+    private FenwickTree(int[] tree, int size) {
+        this.tree = tree;
+        this.size = size;
+        this.highestBit = size == 0 ? 0 : Integer.highestOneBit(size);
+    }
+
+    /**
+     *  ,      ,  O(n)
+     */
+    public static FenwickTree ofOnes(int size) {
+        int[] tree = new int[size + 1];
+        for (int i = 1; i <= size; i++) {
+            tree[i] = i & -i;
+        }
+        return new FenwickTree(tree, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     *  delta   index ( )
+     */
+    public void add(int index, int delta) {
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     *   [0, count)
+     */
+    public int prefixSum(int count) {
+        int sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     *   [from, to)
+     */
+    public int rangeSum(int from, int to) {
+        return prefixSum(to) - prefixSum(from);
+    }
+
+    /**
+     *   ,      k.
+     *         k- ( ) .
+     */
+    public int findByPrefix(int k) {
+        int position = 0;
+        int remaining = k;
+        for (int step = highestBit; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= size && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+}
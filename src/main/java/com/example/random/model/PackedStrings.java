@@ -0,0 +1,172 @@
+package com.example.random.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ *  ,       .
+ *      Latin-1,      (    JDK),
+ *    UTF-16     .
+ */
+final class PackedStrings {
+    private final byte[] data;
+    private final int[] offsets;
+    private final boolean latin1;
+
+    PackedStrings(byte[] data, int[] offsets, boolean latin1) {
+        this.data = data;
+        this.offsets = offsets;
+        this.latin1 = latin1;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    int[] offsets() {
+        return offsets;
+    }
+
+    boolean isLatin1() {
+        return latin1;
+    }
+
+    String get(int index) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        return latin1
+                ? new String(data, start, length, StandardCharsets.ISO_8859_1)
+                : new String(data, start * 2, length * 2, StandardCharsets.UTF_16BE);
+    }
+
+    /**
+     *  ,   String.hashCode
+     */
+    int hash(int index) {
+        return hash(data, latin1, offsets[index], offsets[index + 1]);
+    }
+
+    boolean matches(int index, String value) {
+        return matches(data, latin1, offsets[index], offsets[index + 1], value);
+    }
+
+    long estimatedBytes() {
+        return 16L + data.length + 16L + 4L * offsets.length;
+    }
+
+    private static char charAt(byte[] data, boolean latin1, int position) {
+        return latin1
+                ? (char) (data[position] & 0xFF)
+                : (char) ((data[position * 2] & 0xFF) << 8 | (data[position * 2 + 1] & 0xFF));
+    }
+
+    private static int hash(byte[] data, boolean latin1, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + charAt(data, latin1, i);
+        }
+        return hash;
+    }
+
+    private static boolean matches(byte[] data, boolean latin1, int start, int end, String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (charAt(data, latin1, i) != value.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * :    , build     
+     */
+    static final class Builder {
+        private byte[] data;
+        private int[] offsets;
+        private int count;
+        private boolean latin1 = true;
+
+        Builder(int expectedCount, int expectedChars) {
+            this.data = new byte[Math.max(16, expectedChars)];
+            this.offsets = new int[Math.max(16, expectedCount) + 1];
+        }
+
+        void add(String value) {
+            if (latin1 && !isLatin1(value)) {
+                inflate();
+            }
+            if (count + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+
+            int start = offsets[count];
+            int end = start + value.length();
+            int required = latin1 ? end : end * 2;
+            if (required > data.length) {
+                data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+            }
+            for (int i = 0; i < value.length(); i++) {
+                put(data, latin1, start + i, value.charAt(i));
+            }
+            offsets[++count] = end;
+        }
+
+        int hash(int index) {
+            return PackedStrings.hash(data, latin1, offsets[index], offsets[index + 1]);
+        }
+
+        boolean matches(int index, String value) {
+            return PackedStrings.matches(data, latin1, offsets[index], offsets[index + 1], value);
+        }
+
+        /**
+         *   ,   i-  -   order[i] 
+         */
+        PackedStrings build(int[] order) {
+            int[] packedOffsets = new int[order.length + 1];
+            for (int i = 0; i < order.length; i++) {
+                packedOffsets[i + 1] = packedOffsets[i] + offsets[order[i] + 1] - offsets[order[i]];
+            }
+
+            int width = latin1 ? 1 : 2;
+            byte[] packed = new byte[packedOffsets[order.length] * width];
+            for (int i = 0; i < order.length; i++) {
+                int start = offsets[order[i]];
+                System.arraycopy(data, start * width, packed, packedOffsets[i] * width,
+                        (offsets[order[i] + 1] - start) * width);
+            }
+            return new PackedStrings(packed, packedOffsets, latin1);
+        }
+
+        private void inflate() {
+            int length = offsets[count];
+            byte[] wide = new byte[Math.max(32, data.length * 2)];
+            for (int i = 0; i < length; i++) {
+                put(wide, false, i, (char) (data[i] & 0xFF));
+            }
+            data = wide;
+            latin1 = false;
+        }
+
+        private static void put(byte[] data, boolean latin1, int position, char c) {
+            if (latin1) {
+                data[position] = (byte) c;
+            } else {
+                data[position * 2] = (byte) (c >>> 8);
+                data[position * 2 + 1] = (byte) c;
+            }
+        }
+
+        private static boolean isLatin1(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) > 0xFF) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
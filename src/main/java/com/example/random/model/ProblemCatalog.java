@@ -0,0 +1,463 @@
+package com.example.random.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ *     .
+ * ,         
+ * (   Integer.MAX_VALUE),
+ *   slug       ,
+ *         -     O(1).
+ *  ;     .
+ */
+public final class ProblemCatalog {
+    private static final ProblemDifficulty[] BY_LEVEL = new ProblemDifficulty[4];
+
+    static {
+        for (ProblemDifficulty difficulty : ProblemDifficulty.values()) {
+            BY_LEVEL[difficulty.getLevel()] = difficulty;
+        }
+    }
+
+    private final int size;
+    private final int[] numbers;
+    private final byte[] levels;
+    private final PackedStrings titles;
+    private final PackedStrings slugs;
+    private final BitSet paidOnly;
+    private final int[] totalAccepted;
+    private final int[] totalSubmitted;
+    private final int[] numberSlots;
+    private final int[] titleSlots;
+    private final Map<String, ProblemInfo> view = new View();
+
+    ProblemCatalog(int size, int[] numbers, byte[] levels, PackedStrings titles, PackedStrings slugs,
+                   BitSet paidOnly, int[] totalAccepted, int[] totalSubmitted) {
+        this.size = size;
+        this.numbers = numbers;
+        this.levels = levels;
+        this.titles = titles;
+        this.slugs = slugs;
+        this.paidOnly = paidOnly;
+        this.totalAccepted = totalAccepted;
+        this.totalSubmitted = totalSubmitted;
+
+        this.numberSlots = new int[tableSize(size)];
+        this.titleSlots = new int[tableSize(size)];
+        for (int i = 0; i < size; i++) {
+            insertNumber(i);
+            insertSlot(titleSlots, titles.hash(i), i);
+        }
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     *  ,    ,      
+     */
+    public static ProblemCatalog from(Map<String, ProblemInfo> problems) {
+        if (problems instanceof View) {
+            return ((View) problems).catalog();
+        }
+
+        Builder builder = new Builder(problems.size());
+        for (Map.Entry<String, ProblemInfo> entry : problems.entrySet()) {
+            ProblemInfo problem = entry.getValue();
+            builder.add(problem.getNumber(), entry.getKey(), problem.getDifficulty().getLevel());
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int number(int position) {
+        return numbers[checkPosition(position)];
+    }
+
+    public int level(int position) {
+        return levels[checkPosition(position)];
+    }
+
+    public ProblemDifficulty difficulty(int position) {
+        return BY_LEVEL[level(position)];
+    }
+
+    public String title(int position) {
+        return titles.get(checkPosition(position));
+    }
+
+    /**
+     * Slug     /problems/{slug}/,  ,  API   
+     */
+    public String slug(int position) {
+        return slugs.get(checkPosition(position));
+    }
+
+    public boolean isPaidOnly(int position) {
+        return paidOnly.get(checkPosition(position));
+    }
+
+    public long totalAccepted(int position) {
+        return totalAccepted[checkPosition(position)];
+    }
+
+    public long totalSubmitted(int position) {
+        return totalSubmitted[checkPosition(position)];
+    }
+
+    /**
+     *      , 0   
+     */
+    public double acceptanceRate(int position) {
+        long submitted = totalSubmitted(position);
+        return submitted > 0 ? (double) totalAccepted[position] / submitted : 0.0;
+    }
+
+    /**
+     *    ;     
+     */
+    public ProblemInfo problem(int position) {
+        return new ProblemInfo(number(position), title(position), difficulty(position));
+    }
+
+    /**
+     *      -1;      
+     */
+    public int indexOfNumber(int number) {
+        int mask = numberSlots.length - 1;
+        for (int slot = spread(number) & mask; numberSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = numberSlots[slot] - 1;
+            if (numbers[position] == number) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     *        -1
+     */
+    public int indexOfTitle(String title) {
+        if (title == null) {
+            return -1;
+        }
+        int mask = titleSlots.length - 1;
+        for (int slot = spread(title.hashCode()) & mask; titleSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = titleSlots[slot] - 1;
+            if (titles.matches(position, title)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    public ProblemInfo findByNumber(int number) {
+        int position = indexOfNumber(number);
+        return position < 0 ? null : problem(position);
+    }
+
+    public ProblemInfo findByTitle(String title) {
+        int position = indexOfTitle(title);
+        return position < 0 ? null : problem(position);
+    }
+
+    /**
+     *        -> .
+     *       ,         
+     */
+    public Map<String, ProblemInfo> asMap() {
+        return view;
+    }
+
+    /**
+     *      
+     */
+    public long estimatedBytes() {
+        return 16L * 8 + 4L * size + size + titles.estimatedBytes() + slugs.estimatedBytes()
+                + size / 8 + 8L * size + 4L * (numberSlots.length + titleSlots.length);
+    }
+
+    //  ,      
+
+    int[] numbersColumn() {
+        return numbers;
+    }
+
+    byte[] levelsColumn() {
+        return levels;
+    }
+
+    PackedStrings titlesColumn() {
+        return titles;
+    }
+
+    PackedStrings slugsColumn() {
+        return slugs;
+    }
+
+    BitSet paidOnlyColumn() {
+        return paidOnly;
+    }
+
+    int[] totalAcceptedColumn() {
+        return totalAccepted;
+    }
+
+    int[] totalSubmittedColumn() {
+        return totalSubmitted;
+    }
+
+    private int checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of range [0, " + size + ")");
+        }
+        return position;
+    }
+
+    private void insertNumber(int position) {
+        if (indexOfNumber(numbers[position]) < 0) {
+            insertSlot(numberSlots, numbers[position], position);
+        }
+    }
+
+    /**
+     *   + 1       
+     */
+    private static void insertSlot(int[] slots, int hash, int position) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int entries) {
+        int capacity = 2;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     *  :     .
+     *     ,       
+     */
+    public static final class Builder {
+        private int rows;
+        private int[] numbers;
+        private byte[] levels;
+        private final PackedStrings.Builder titles;
+        private final PackedStrings.Builder slugs;
+        private final BitSet paidOnly = new BitSet();
+        private final BitSet replaced = new BitSet();
+        private int[] totalAccepted;
+        private int[] totalSubmitted;
+        private int[] titleSlots;
+        private int replacedCount;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.numbers = new int[capacity];
+            this.levels = new byte[capacity];
+            this.titles = new PackedStrings.Builder(capacity, capacity * 32);
+            this.slugs = new PackedStrings.Builder(capacity, capacity * 32);
+            this.totalAccepted = new int[capacity];
+            this.totalSubmitted = new int[capacity];
+            this.titleSlots = new int[tableSize(capacity)];
+        }
+
+        public Builder add(int number, String title, int level) {
+            return add(number, title, level, null, false, 0, 0);
+        }
+
+        /**
+         *  ; level    1  3, slug  
+         */
+        public Builder add(int number, String title, int level, String slug,
+                           boolean paid, long accepted, long submitted) {
+            if (title == null) {
+                throw new IllegalArgumentException("Title must not be null");
+            }
+            if (level < 1 || level >= BY_LEVEL.length) {
+                throw new IllegalArgumentException("Unknown difficulty level: " + level);
+            }
+
+            int previousSlot = findTitleSlot(title);
+            if (previousSlot >= 0) {
+                replaced.set(titleSlots[previousSlot] - 1);
+                replacedCount++;
+            }
+
+            ensureRowCapacity();
+            numbers[rows] = number;
+            levels[rows] = (byte) level;
+            titles.add(title);
+            slugs.add(slug == null ? "" : slug);
+            paidOnly.set(rows, paid);
+            totalAccepted[rows] = saturate(accepted);
+            totalSubmitted[rows] = saturate(submitted);
+            rows++;
+
+            if (previousSlot >= 0) {
+                //     :     
+                titleSlots[previousSlot] = rows;
+            } else if ((rows - replacedCount) * 2 > titleSlots.length) {
+                rehashTitles(titleSlots.length * 2);
+            } else {
+                insertSlot(titleSlots, titles.hash(rows - 1), rows - 1);
+            }
+            return this;
+        }
+
+        /**
+         *  ,      (   -   )
+         */
+        public ProblemCatalog build() {
+            long[] keys = new long[rows - replacedCount];
+            int live = 0;
+            for (int row = 0; row < rows; row++) {
+                if (!replaced.get(row)) {
+                    keys[live++] = (long) numbers[row] << 32 | row;
+                }
+            }
+            Arrays.sort(keys);
+
+            int[] order = new int[live];
+            int[] sortedNumbers = new int[live];
+            byte[] sortedLevels = new byte[live];
+            BitSet sortedPaidOnly = new BitSet(live);
+            int[] sortedAccepted = new int[live];
+            int[] sortedSubmitted = new int[live];
+            for (int i = 0; i < live; i++) {
+                int row = (int) keys[i];
+                order[i] = row;
+                sortedNumbers[i] = numbers[row];
+                sortedLevels[i] = levels[row];
+                sortedPaidOnly.set(i, paidOnly.get(row));
+                sortedAccepted[i] = totalAccepted[row];
+                sortedSubmitted[i] = totalSubmitted[row];
+            }
+
+            return new ProblemCatalog(live, sortedNumbers, sortedLevels, titles.build(order), slugs.build(order),
+                    sortedPaidOnly, sortedAccepted, sortedSubmitted);
+        }
+
+        private static int saturate(long value) {
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, value));
+        }
+
+        private int findTitleSlot(String title) {
+            int mask = titleSlots.length - 1;
+            for (int slot = spread(title.hashCode()) & mask; titleSlots[slot] != 0; slot = (slot + 1) & mask) {
+                if (titles.matches(titleSlots[slot] - 1, title)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void ensureRowCapacity() {
+            if (rows < numbers.length) {
+                return;
+            }
+            int capacity = numbers.length * 2;
+            numbers = Arrays.copyOf(numbers, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            totalAccepted = Arrays.copyOf(totalAccepted, capacity);
+            totalSubmitted = Arrays.copyOf(totalSubmitted, capacity);
+        }
+
+        private void rehashTitles(int capacity) {
+            titleSlots = new int[capacity];
+            for (int row = 0; row < rows; row++) {
+                if (!replaced.get(row)) {
+                    insertSlot(titleSlots, titles.hash(row), row);
+                }
+            }
+        }
+    }
+
+    /**
+     *     ->    .
+     *       ,     
+     */
+    private final class View extends AbstractMap<String, ProblemInfo> {
+        private final Set<Map.Entry<String, ProblemInfo>> entries = new EntrySet();
+
+        ProblemCatalog catalog() {
+            return ProblemCatalog.this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && indexOfTitle((String) key) >= 0;
+        }
+
+        @Override
+        public ProblemInfo get(Object key) {
+            return key instanceof String ? findByTitle((String) key) : null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, ProblemInfo>> entrySet() {
+            return entries;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, ProblemInfo>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, ProblemInfo>> iterator() {
+            return new Iterator<Map.Entry<String, ProblemInfo>>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < size;
+                }
+
+                @Override
+                public Map.Entry<String, ProblemInfo> next() {
+                    if (position >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    String title = title(position);
+                    ProblemInfo problem = new ProblemInfo(numbers[position], title, BY_LEVEL[levels[position]]);
+                    position++;
+                    return new AbstractMap.SimpleImmutableEntry<>(title, problem);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.random.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ *   :       .
+ *            .
+ */
+public final class ProblemIndex {
+    private static final ProblemDifficulty[] DIFFICULTIES = ProblemDifficulty.values();
+
+    private final int[][] numbers;
+    private final int size;
+    private final long fingerprint;
+
+    private ProblemIndex(int[][] numbers) {
+        this.numbers = numbers;
+        int total = 0;
+        long hash = 1;
+        for (int d = 0; d < numbers.length; d++) {
+            total += numbers[d].length;
+            for (int number : numbers[d]) {
+                hash = 31 * hash + ((long) number << 2 | d);
+            }
+        }
+        this.size = total;
+        this.fingerprint = hash;
+    }
+
+    /**
+     *     
+     */
+    public static ProblemIndex build(Collection<ProblemInfo> problems) {
+        int[][] columns = new int[DIFFICULTIES.length][];
+        int[] counts = new int[DIFFICULTIES.length];
+
+        for (ProblemInfo problem : problems) {
+            counts[problem.getDifficulty().ordinal()]++;
+        }
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            columns[d] = new int[counts[d]];
+            counts[d] = 0;
+        }
+        for (ProblemInfo problem : problems) {
+            int d = problem.getDifficulty().ordinal();
+            columns[d][counts[d]++] = problem.getNumber();
+        }
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            columns[d] = sortedUnique(columns[d]);
+        }
+
+        return new ProblemIndex(columns);
+    }
+
+    /**
+     *         
+     */
+    public static ProblemIndex build(ProblemCatalog catalog) {
+        int[][] columns = new int[DIFFICULTIES.length][];
+        int[] counts = new int[DIFFICULTIES.length];
+
+        for (int i = 0; i < catalog.size(); i++) {
+            counts[catalog.difficulty(i).ordinal()]++;
+        }
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            columns[d] = new int[counts[d]];
+            counts[d] = 0;
+        }
+        for (int i = 0; i < catalog.size(); i++) {
+            int d = catalog.difficulty(i).ordinal();
+            columns[d][counts[d]++] = catalog.number(i);
+        }
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            columns[d] = sortedUnique(columns[d]);
+        }
+
+        return new ProblemIndex(columns);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     *   :         
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     *      
+     */
+    public int count(ProblemDifficulty difficulty) {
+        return numbers[difficulty.ordinal()].length;
+    }
+
+    /**
+     *        
+     */
+    public Availability availability(ExclusionSet excludeSet) {
+        Availability availability = new Availability();
+        if (excludeSet != null) {
+            excludeSet.forEach(availability::exclude);
+        }
+        return availability;
+    }
+
+    /**
+     *   ,   value
+     */
+    private int lowerBound(int[] column, int value) {
+        int low = 0;
+        int high = column.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (column[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     *   ,   value
+     */
+    private int upperBound(int[] column, int value) {
+        int low = 0;
+        int high = column.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (column[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] sortedUnique(int[] values) {
+        Arrays.sort(values);
+        int unique = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (unique == 0 || values[unique - 1] != values[i]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique == values.length ? values : Arrays.copyOf(values, unique);
+    }
+
+    /**
+     *      .
+     *          (1 -  ),
+     *     k-       O(log n).
+     */
+    public final class Availability {
+        private final FenwickTree[] trees = new FenwickTree[DIFFICULTIES.length];
+        private final boolean[][] excluded = new boolean[DIFFICULTIES.length][];
+
+        private Availability() {
+            for (int d = 0; d < DIFFICULTIES.length; d++) {
+                trees[d] = FenwickTree.ofOnes(numbers[d].length);
+                excluded[d] = new boolean[numbers[d].length];
+            }
+        }
+
+        /**
+         *        [min, max]
+         */
+        public int count(ProblemDifficulty difficulty, int min, int max) {
+            int d = difficulty.ordinal();
+            return trees[d].rangeSum(lowerBound(numbers[d], min), upperBound(numbers[d], max));
+        }
+
+        /**
+         *         rank ( )    min
+         */
+        public int select(ProblemDifficulty difficulty, int min, int rank) {
+            int d = difficulty.ordinal();
+            int before = trees[d].prefixSum(lowerBound(numbers[d], min));
+            return numbers[d][trees[d].findByPrefix(before + rank)];
+        }
+
+        /**
+         *        [min, max]   
+         */
+        public void forEachAvailable(ProblemDifficulty difficulty, int min, int max, IntConsumer action) {
+            int d = difficulty.ordinal();
+            int to = upperBound(numbers[d], max);
+            for (int position = lowerBound(numbers[d], min); position < to; position++) {
+                if (!excluded[d][position]) {
+                    action.accept(numbers[d][position]);
+                }
+            }
+        }
+
+        /**
+         *    
+         */
+        public boolean exclude(int number) {
+            boolean changed = false;
+            for (int d = 0; d < DIFFICULTIES.length; d++) {
+                int position = Arrays.binarySearch(numbers[d], number);
+                if (position >= 0 && !excluded[d][position]) {
+                    excluded[d][position] = true;
+                    trees[d].add(position, -1);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        /**
+         *     
+         */
+        public boolean include(int number) {
+            boolean changed = false;
+            for (int d = 0; d < DIFFICULTIES.length; d++) {
+                int position = Arrays.binarySearch(numbers[d], number);
+                if (position >= 0 && excluded[d][position]) {
+                    excluded[d][position] = false;
+                    trees[d].add(position, 1);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.random.scraper;
+
+/**
+ *     .
+ *      2 * bound + 1,  ,
+ *      bound.    ,
+ *    ,     .
+ */
+public final class BoundedEditDistance {
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
+
+    private BoundedEditDistance() {
+    }
+
+    /**
+     *  ,     bound,  bound + 1
+     */
+    public static int distance(CharSequence first, CharSequence second, int bound) {
+        if (bound < 0) {
+            throw new IllegalArgumentException("Bound must be non-negative: " + bound);
+        }
+
+        CharSequence a = first.length() <= second.length() ? first : second;
+        CharSequence b = a == first ? second : first;
+        int n = a.length();
+        int m = b.length();
+        int exceeded = bound + 1;
+
+        //         m - n 
+        if (m - n > bound) {
+            return exceeded;
+        }
+        if (n == 0) {
+            return m;
+        }
+
+        int[][] rows = rows(m + 1);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= bound ? j : exceeded;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(m, i + bound);
+
+            current[from - 1] = from == 1 && i <= bound ? i : exceeded;
+            int rowMin = current[from - 1];
+            char c = a.charAt(i - 1);
+
+            for (int j = from; j <= to; j++) {
+                int value = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                value = Math.min(value, previous[j] + 1);
+                value = Math.min(value, current[j - 1] + 1);
+                if (value > exceeded) {
+                    value = exceeded;
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (to < m) {
+                current[to + 1] = exceeded;
+            }
+
+            if (rowMin > bound) {
+                return exceeded;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[m], exceeded);
+    }
+
+    private static int[][] rows(int length) {
+        int[][] rows = ROWS.get();
+        if (rows[0].length < length) {
+            int capacity = Math.max(length, rows[0].length * 2);
+            rows[0] = new int[capacity];
+            rows[1] = new int[capacity];
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.random.scraper;
+
+/**
+ * ,       
+ */
+public enum MatchKind {
+    EXACT,
+    CASE_INSENSITIVE,
+    NORMALIZED,
+    FUZZY,
+    NONE;
+
+    private static final MatchKind[] VALUES = values();
+
+    static MatchKind fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public boolean isMatched() {
+        return this != NONE;
+    }
+}
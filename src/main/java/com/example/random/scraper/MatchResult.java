@@ -0,0 +1,20 @@
+package com.example.random.scraper;
+
+import com.example.random.model.ProblemInfo;
+import lombok.Value;
+
+/**
+ *    : ,      0  1
+ */
+@Value
+public class MatchResult {
+    static final MatchResult NO_MATCH = new MatchResult(null, MatchKind.NONE, 0.0);
+
+    ProblemInfo problem;
+    MatchKind kind;
+    double score;
+
+    public boolean isMatched() {
+        return kind.isMatched();
+    }
+}
@@ -1,105 +1,203 @@
 package com.example.random.scraper;
 
+import com.example.random.model.ExclusionSet;
 import com.example.random.model.ProblemInfo;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  *         
  */
 @Slf4j
 public class ProblemMatcher {
+    private static final double SIMILARITY_THRESHOLD = 0.8;
+    private static final int FUZZY_CANDIDATES = 16;
+    private static final int PARALLEL_THRESHOLD = 512;
+    private static final int MATCH_BATCH_SIZE = 128;
+
+    private final TitleMemo memo;
+    private volatile TitleIndex titleIndex;
+
+    public ProblemMatcher() {
+        this.memo = null;
+    }
+
+    /**
+     *  ,      
+     */
+    public ProblemMatcher(Path memoFile) {
+        this.memo = new TitleMemo(memoFile);
+    }
 
     /**
      *  ProblemInfo   
      */
     public ProblemInfo findProblemInfo(String solvedTitle, Map<String, ProblemInfo> allProblems) {
+        return matchTitle(solvedTitle, allProblems).getProblem();
+    }
+
+    /**
+     *          
+     */
+    public MatchResult matchTitle(String solvedTitle, Map<String, ProblemInfo> allProblems) {
         if (solvedTitle == null || solvedTitle.trim().isEmpty()) {
-            return null;
+            return MatchResult.NO_MATCH;
         }
 
-        String cleanTitle = solvedTitle.trim();
+        return match(solvedTitle.trim(), indexFor(allProblems));
+    }
 
+    private MatchResult match(String cleanTitle, TitleIndex index) {
         //  
-        ProblemInfo exactMatch = allProblems.get(cleanTitle);
+        ProblemInfo exactMatch = index.findExact(cleanTitle);
         if (exactMatch != null) {
             log.debug("Exact match found for: {}", cleanTitle);
-            return exactMatch;
+            return new MatchResult(exactMatch, MatchKind.EXACT, 1.0);
         }
 
         //    
-        for (Map.Entry<String, ProblemInfo> entry : allProblems.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(cleanTitle)) {
-                log.debug("Case-insensitive match found for: {}", cleanTitle);
-                return entry.getValue();
-            }
+        ProblemInfo caseInsensitiveMatch = index.findIgnoreCase(cleanTitle);
+        if (caseInsensitiveMatch != null) {
+            log.debug("Case-insensitive match found for: {}", cleanTitle);
+            return new MatchResult(caseInsensitiveMatch, MatchKind.CASE_INSENSITIVE, 1.0);
         }
 
-        //    
-        for (Map.Entry<String, ProblemInfo> entry : allProblems.entrySet()) {
-            String apiTitle = entry.getKey();
+        //   
+        String normalizedTitle = TitleIndex.normalize(cleanTitle);
+        ProblemInfo normalizedMatch = index.findNormalized(normalizedTitle);
+        if (normalizedMatch != null) {
+            log.debug("Normalized match found for: {}", cleanTitle);
+            return new MatchResult(normalizedMatch, MatchKind.NORMALIZED, 1.0);
+        }
 
-            if (isPartialMatch(cleanTitle, apiTitle)) {
-                log.debug("Partial match found: '{}' -> '{}'", cleanTitle, apiTitle);
-                return entry.getValue();
+        //  :   ,     
+        ProblemInfo fuzzyMatch = null;
+        double bestSimilarity = SIMILARITY_THRESHOLD;
+        for (int position : index.fuzzyCandidates(normalizedTitle, FUZZY_CANDIDATES)) {
+            double similarity = calculateSimilarity(normalizedTitle, index.normalizedTitle(position), bestSimilarity);
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                fuzzyMatch = index.problem(position);
             }
         }
 
+        if (fuzzyMatch != null) {
+            log.debug("Fuzzy match found: '{}' -> '{}' (similarity {})",
+                    cleanTitle, fuzzyMatch.getTitle(), bestSimilarity);
+            return new MatchResult(fuzzyMatch, MatchKind.FUZZY, bestSimilarity);
+        }
+
         log.debug("No match found for: {}", cleanTitle);
-        return null;
+        return MatchResult.NO_MATCH;
     }
 
     /**
      *       
      */
-    public Set<Integer> matchProblemsToNumbers(Set<String> solvedTitles, Map<String, ProblemInfo> allProblems) {
-        Set<Integer> solvedNumbers = new HashSet<>();
-
-        int matchedCount = 0;
-        for (String solvedTitle : solvedTitles) {
-            ProblemInfo problemInfo = findProblemInfo(solvedTitle, allProblems);
-            if (problemInfo != null) {
-                solvedNumbers.add(problemInfo.getNumber());
-                matchedCount++;
-            }
+    public ExclusionSet matchProblemsToNumbers(Set<String> solvedTitles, Map<String, ProblemInfo> allProblems) {
+        TitleMatches matches = matchAll(solvedTitles, allProblems);
+
+        log.info(" : {}  {}", matches.getMatchedCount(), solvedTitles.size());
+        return matches.getMatchedNumbers();
+    }
+
+    /**
+     *     .   (  ,
+     *    )     
+     *   ForkJoinPool,  -    
+     */
+    public TitleMatches matchAll(Collection<String> solvedTitles, Map<String, ProblemInfo> allProblems) {
+        TitleIndex index = indexFor(allProblems);
+        String[] titles = solvedTitles.toArray(new String[0]);
+        int[] numbers = new int[titles.length];
+        byte[] kinds = new byte[titles.length];
+        float[] scores = new float[titles.length];
+
+        int[] slots = memo == null ? allSlots(titles.length) : applyMemo(index, titles, numbers, kinds, scores);
+
+        MatchTask task = new MatchTask(index, titles, slots, numbers, kinds, scores, 0, slots.length);
+        if (slots.length < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        if (memo != null) {
+            rememberMatches(titles, slots, numbers, kinds, scores);
         }
 
-        log.info(" : {}  {}", matchedCount, solvedTitles.size());
-        return solvedNumbers;
+        TitleMatches matches = new TitleMatches(titles, numbers, kinds, scores);
+        log.debug("Matched titles: {}", matches);
+        return matches;
     }
 
     /**
-     *    
+     *    ,     .
+     *   ,    
      */
-    private boolean isPartialMatch(String solvedTitle, String apiTitle) {
-        //  
-        String normalizedSolved = normalizeTitle(solvedTitle);
-        String normalizedApi = normalizeTitle(apiTitle);
-
-        //    
-        return normalizedSolved.equals(normalizedApi) ||
-                normalizedApi.contains(normalizedSolved) ||
-                normalizedSolved.contains(normalizedApi) ||
-                calculateSimilarity(normalizedSolved, normalizedApi) > 0.8;
+    private int[] applyMemo(TitleIndex index, String[] titles, int[] numbers, byte[] kinds, float[] scores) {
+        memo.bind(index.contentHash());
+
+        int[] pendingSlots = new int[titles.length];
+        int pendingCount = 0;
+        for (int i = 0; i < titles.length; i++) {
+            TitleMemo.Entry entry = titles[i] == null ? null : memo.get(titles[i].trim());
+            if (entry == null) {
+                pendingSlots[pendingCount++] = i;
+                continue;
+            }
+
+            numbers[i] = entry.number;
+            kinds[i] = (byte) entry.kind.ordinal();
+            scores[i] = entry.score;
+        }
+
+        log.debug("Title memo resolved {} of {} titles", titles.length - pendingCount, titles.length);
+        return Arrays.copyOf(pendingSlots, pendingCount);
+    }
+
+    private void rememberMatches(String[] titles, int[] slots, int[] numbers, byte[] kinds, float[] scores) {
+        for (int slot : slots) {
+            if (titles[slot] != null && !titles[slot].trim().isEmpty()) {
+                memo.put(titles[slot].trim(), numbers[slot], MatchKind.fromOrdinal(kinds[slot]), scores[slot]);
+            }
+        }
+        memo.save();
+    }
+
+    private static int[] allSlots(int count) {
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = i;
+        }
+        return slots;
     }
 
     /**
-     *     
+     *     ,      
      */
-    private String normalizeTitle(String title) {
-        return title.toLowerCase()
-                .replaceAll("[^a-z0-9\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+    private TitleIndex indexFor(Map<String, ProblemInfo> allProblems) {
+        TitleIndex index = titleIndex;
+        if (index == null || !index.isBuiltFor(allProblems)) {
+            index = TitleIndex.build(allProblems);
+            titleIndex = index;
+            log.debug("Built title index for {} problems", index.size());
+        }
+        return index;
     }
 
     /**
-     *    ( )
+     *   ,    minSimilarity,   0.
+     *    ,      
      */
-    private double calculateSimilarity(String s1, String s2) {
+    private double calculateSimilarity(String s1, String s2, double minSimilarity) {
         if (s1.equals(s2)) {
             return 1.0;
         }
@@ -109,30 +207,57 @@ public class ProblemMatcher {
             return 1.0;
         }
 
-        return (maxLen - calculateLevenshteinDistance(s1, s2)) / (double) maxLen;
+        int bound = (int) Math.floor(maxLen * (1 - minSimilarity));
+        int distance = BoundedEditDistance.distance(s1, s2, bound);
+        return distance > bound ? 0.0 : (maxLen - distance) / (double) maxLen;
     }
 
     /**
-     *   
+     *     slots[from..to),        
      */
-    private int calculateLevenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-
-        for (int i = 0; i <= s1.length(); i++) {
-            for (int j = 0; j <= s2.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = Math.min(
-                            Math.min(dp[i-1][j] + 1, dp[i][j-1] + 1),
-                            dp[i-1][j-1] + (s1.charAt(i-1) == s2.charAt(j-1) ? 0 : 1)
-                    );
-                }
-            }
+    private final class MatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final TitleIndex index;
+        private final String[] titles;
+        private final int[] slots;
+        private final int[] numbers;
+        private final byte[] kinds;
+        private final float[] scores;
+        private final int from;
+        private final int to;
+
+        MatchTask(TitleIndex index, String[] titles, int[] slots, int[] numbers, byte[] kinds, float[] scores,
+                  int from, int to) {
+            this.index = index;
+            this.titles = titles;
+            this.slots = slots;
+            this.numbers = numbers;
+            this.kinds = kinds;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
         }
 
-        return dp[s1.length()][s2.length()];
+        @Override
+        protected void compute() {
+            if (to - from > MATCH_BATCH_SIZE && getPool() != null) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MatchTask(index, titles, slots, numbers, kinds, scores, from, middle),
+                        new MatchTask(index, titles, slots, numbers, kinds, scores, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                int slot = slots[i];
+                String title = titles[slot];
+                MatchResult result = title == null || title.trim().isEmpty()
+                        ? MatchResult.NO_MATCH
+                        : match(title.trim(), index);
+                numbers[slot] = result.isMatched() ? result.getProblem().getNumber() : 0;
+                kinds[slot] = (byte) result.getKind().ordinal();
+                scores[slot] = (float) result.getScore();
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.example.random.scraper;
+
+import com.example.random.model.ProblemInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *     ,      .
+ *           ,
+ *             .
+ */
+final class TitleIndex {
+    private final Map<String, ProblemInfo> catalog;
+    private final Map<String, ProblemInfo> byLowerCase;
+    private final Map<String, ProblemInfo> byNormalized;
+    private final String[] normalizedTitles;
+    private final ProblemInfo[] problems;
+    private final TrigramIndex trigrams;
+    private final long contentHash;
+
+    private TitleIndex(Map<String, ProblemInfo> catalog) {
+        int capacity = catalog.size() * 4 / 3 + 1;
+        this.catalog = catalog;
+        this.byLowerCase = new HashMap<>(capacity);
+        this.byNormalized = new HashMap<>(capacity);
+        this.normalizedTitles = new String[catalog.size()];
+        this.problems = new ProblemInfo[catalog.size()];
+
+        int i = 0;
+        long hash = catalog.size();
+        for (Map.Entry<String, ProblemInfo> entry : catalog.entrySet()) {
+            hash += mix64(titleHash(entry.getKey()) ^ entry.getValue().getNumber() * 0x9E3779B97F4A7C15L);
+            String normalized = normalize(entry.getKey());
+            byLowerCase.putIfAbsent(lowerCase(entry.getKey()), entry.getValue());
+            byNormalized.putIfAbsent(normalized, entry.getValue());
+            normalizedTitles[i] = normalized;
+            problems[i] = entry.getValue();
+            i++;
+        }
+        this.trigrams = new TrigramIndex(normalizedTitles);
+        this.contentHash = hash;
+    }
+
+    static TitleIndex build(Map<String, ProblemInfo> catalog) {
+        return new TitleIndex(catalog);
+    }
+
+    /**
+     * ,       
+     */
+    boolean isBuiltFor(Map<String, ProblemInfo> catalog) {
+        return this.catalog == catalog;
+    }
+
+    /**
+     *    (  ),     
+     */
+    long contentHash() {
+        return contentHash;
+    }
+
+    int size() {
+        return problems.length;
+    }
+
+    ProblemInfo findExact(String title) {
+        return catalog.get(title);
+    }
+
+    ProblemInfo findIgnoreCase(String title) {
+        return byLowerCase.get(lowerCase(title));
+    }
+
+    ProblemInfo findNormalized(String normalizedTitle) {
+        return byNormalized.get(normalizedTitle);
+    }
+
+    /**
+     *  ,      
+     */
+    int[] fuzzyCandidates(String normalizedTitle, int limit) {
+        return trigrams.topCandidates(normalizedTitle, limit);
+    }
+
+    String normalizedTitle(int position) {
+        return normalizedTitles[position];
+    }
+
+    ProblemInfo problem(int position) {
+        return problems[position];
+    }
+
+    /**
+     *     :  ,     ,
+     *      ,    
+     */
+    static String normalize(String title) {
+        StringBuilder result = new StringBuilder(title.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < title.length(); i++) {
+            char c = Character.toLowerCase(title.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (pendingSpace && result.length() > 0) {
+                    result.append(' ');
+                }
+                pendingSpace = false;
+                result.append(c);
+            } else if (isWhitespace(c)) {
+                pendingSpace = true;
+            }
+        }
+        return result.toString();
+    }
+
+    private static long titleHash(String title) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < title.length(); i++) {
+            hash = (hash ^ title.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String lowerCase(String title) {
+        return title.toLowerCase();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.random.scraper;
+
+import com.example.random.model.ExclusionSet;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ *    :     ,
+ *        ,   -  ExclusionSet
+ */
+public final class TitleMatches {
+    private final String[] titles;
+    private final int[] numbers;
+    private final byte[] kinds;
+    private final float[] scores;
+    private final ExclusionSet matchedNumbers;
+
+    TitleMatches(String[] titles, int[] numbers, byte[] kinds, float[] scores) {
+        this.titles = titles;
+        this.numbers = numbers;
+        this.kinds = kinds;
+        this.scores = scores;
+        this.matchedNumbers = new ExclusionSet();
+        for (int i = 0; i < titles.length; i++) {
+            if (kind(i).isMatched()) {
+                matchedNumbers.add(numbers[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return titles.length;
+    }
+
+    public String title(int i) {
+        return titles[i];
+    }
+
+    /**
+     *    0,    
+     */
+    public int number(int i) {
+        return numbers[i];
+    }
+
+    public MatchKind kind(int i) {
+        return MatchKind.fromOrdinal(kinds[i]);
+    }
+
+    public float score(int i) {
+        return scores[i];
+    }
+
+    /**
+     *    
+     */
+    public ExclusionSet getMatchedNumbers() {
+        return matchedNumbers;
+    }
+
+    public int getMatchedCount() {
+        int count = 0;
+        for (int i = 0; i < titles.length; i++) {
+            if (kind(i).isMatched()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     *     
+     */
+    public Map<MatchKind, Integer> countByKind() {
+        Map<MatchKind, Integer> result = new EnumMap<>(MatchKind.class);
+        for (int i = 0; i < titles.length; i++) {
+            result.merge(kind(i), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TitleMatches" + countByKind();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.random.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *      " ->  ".
+ *     :       .
+ *      ,  ,     ,
+ *           -.
+ */
+@Slf4j
+final class TitleMemo {
+    private static final int MAGIC = 0x544D454D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_TITLE_LENGTH = 1024;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long catalogHash;
+    private boolean loaded;
+    private boolean dirty;
+
+    TitleMemo(Path file) {
+        this.file = file;
+    }
+
+    /**
+     *       ,       
+     */
+    synchronized void bind(long contentHash) {
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+
+        if (catalogHash != contentHash) {
+            if (!entries.isEmpty()) {
+                log.info("Catalog changed, dropping {} memoized title matches", entries.size());
+            }
+            entries.clear();
+            catalogHash = contentHash;
+            dirty = true;
+        }
+    }
+
+    synchronized Entry get(String title) {
+        return entries.get(title);
+    }
+
+    synchronized void put(String title, int number, MatchKind kind, float score) {
+        if (title.length() > MAX_TITLE_LENGTH) {
+            return;
+        }
+
+        Entry previous = entries.put(title, new Entry(number, kind, score));
+        if (previous == null || previous.number != number || previous.kind != kind) {
+            dirty = true;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     *    ,   .   
+     */
+    synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(catalogHash);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().number);
+                    out.writeByte(entry.getValue().kind.ordinal());
+                    out.writeFloat(entry.getValue().score);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            log.debug("Saved {} memoized title matches to {}", entries.size(), file);
+        } catch (IOException e) {
+            log.warn("Failed to save title memo to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("Ignoring title memo with unknown format: {}", file);
+                return;
+            }
+
+            catalogHash = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String title = in.readUTF();
+                int number = in.readInt();
+                MatchKind kind = MatchKind.fromOrdinal(in.readByte());
+                entries.put(title, new Entry(number, kind, in.readFloat()));
+            }
+            log.debug("Loaded {} memoized title matches from {}", entries.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load title memo from {}: {}", file, e.getMessage());
+            entries.clear();
+            catalogHash = 0;
+        }
+    }
+
+    /**
+     *     
+     */
+    static final class Entry {
+        final int number;
+        final MatchKind kind;
+        final float score;
+
+        Entry(int number, MatchKind kind, float score) {
+            this.number = number;
+            this.kind = kind;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.random.scraper;
+
+import java.util.Arrays;
+
+/**
+ *     .
+ *           ,
+ *    :    ,   .
+ *      (CSR):     code 
+ *  postings[offsets[code]..offsets[code + 1]).
+ */
+final class TrigramIndex {
+    private static final int ALPHABET = 37;
+    private static final int TRIGRAMS = ALPHABET * ALPHABET * ALPHABET;
+
+    private final int[] offsets;
+    private final int[] postings;
+    private final int[] gramCounts;
+    private final ThreadLocal<Scratch> scratch;
+
+    TrigramIndex(String[] normalizedTitles) {
+        int size = normalizedTitles.length;
+        int[][] grams = new int[size][];
+        int[] counts = new int[TRIGRAMS + 1];
+        this.gramCounts = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            grams[i] = trigrams(normalizedTitles[i]);
+            gramCounts[i] = grams[i].length;
+            for (int code : grams[i]) {
+                counts[code + 1]++;
+            }
+        }
+
+        for (int code = 0; code < TRIGRAMS; code++) {
+            counts[code + 1] += counts[code];
+        }
+        this.offsets = counts.clone();
+        this.postings = new int[counts[TRIGRAMS]];
+        for (int i = 0; i < size; i++) {
+            for (int code : grams[i]) {
+                postings[counts[code]++] = i;
+            }
+        }
+
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(size));
+    }
+
+    /**
+     *   limit  ,       ,
+     *    
+     */
+    int[] topCandidates(String normalizedQuery, int limit) {
+        int[] queryGrams = trigrams(normalizedQuery);
+        if (queryGrams.length == 0 || limit <= 0) {
+            return new int[0];
+        }
+
+        Scratch buffers = scratch.get();
+        int[] common = buffers.common;
+        int[] touched = buffers.touched;
+        int touchedCount = 0;
+
+        for (int code : queryGrams) {
+            for (int p = offsets[code]; p < offsets[code + 1]; p++) {
+                int position = postings[p];
+                if (common[position]++ == 0) {
+                    touched[touchedCount++] = position;
+                }
+            }
+        }
+
+        int[] best = new int[Math.min(limit, touchedCount)];
+        double[] bestScores = new double[best.length];
+        int found = 0;
+
+        for (int t = 0; t < touchedCount; t++) {
+            int position = touched[t];
+            double score = 2.0 * common[position] / (queryGrams.length + gramCounts[position]);
+            common[position] = 0;
+
+            if (found < best.length) {
+                found++;
+            } else if (score <= bestScores[found - 1]) {
+                continue;
+            }
+
+            int slot = found - 1;
+            while (slot > 0 && bestScores[slot - 1] < score) {
+                best[slot] = best[slot - 1];
+                bestScores[slot] = bestScores[slot - 1];
+                slot--;
+            }
+            best[slot] = position;
+            bestScores[slot] = score;
+        }
+
+        return best;
+    }
+
+    /**
+     *    ,         
+     */
+    static int[] trigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+
+        int length = normalized.length() + 3;
+        int[] codes = new int[length - 2];
+        int first = 0;
+        int second = 0;
+        for (int i = 0; i < length; i++) {
+            int symbol = i >= 2 && i - 2 < normalized.length() ? symbol(normalized.charAt(i - 2)) : 0;
+            if (i >= 2) {
+                codes[i - 2] = (first * ALPHABET + second) * ALPHABET + symbol;
+            }
+            first = second;
+            second = symbol;
+        }
+
+        Arrays.sort(codes);
+        int unique = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (i == 0 || codes[i] != codes[i - 1]) {
+                codes[unique++] = codes[i];
+            }
+        }
+        return unique == codes.length ? codes : Arrays.copyOf(codes, unique);
+    }
+
+    private static int symbol(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    /**
+     *    ,        
+     */
+    private static final class Scratch {
+        final int[] common;
+        final int[] touched;
+
+        Scratch(int size) {
+            this.common = new int[size];
+            this.touched = new int[size];
+        }
+    }
+}
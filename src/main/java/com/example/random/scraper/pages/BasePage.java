@@ -93,11 +93,4 @@ public abstract class BasePage {
             throw new RuntimeException("Script execution failed", e);
         }
     }
-
-    /**
-     *    
-     */
-    protected String getPageText() {
-        return (String) executeScript("() => document.body.innerText");
-    }
 }
\ No newline at end of file
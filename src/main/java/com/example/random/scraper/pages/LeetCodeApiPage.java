@@ -2,58 +2,93 @@ package com.example.random.scraper.pages;
 
 import com.example.random.config.ScrapingConfig;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Page Object  API  LeetCode    
+ * Page Object  API  LeetCode    .
+ *      ,   JSON    innerText
  */
 @Slf4j
 public class LeetCodeApiPage extends BasePage {
+    private byte[] body;
+    private String etag;
+    private String lastModified;
 
     public LeetCodeApiPage(Page page) {
         super(page);
     }
 
     /**
-     *  API 
+     *  API :    API    
      */
     public void loadApiData() {
-        navigateAndWait(ScrapingConfig.LEETCODE_API_URL, ScrapingConfig.JSON_WAIT_TIME);
-        logProgress("API  ");
+        String url = ScrapingConfig.LEETCODE_API_URL;
+        try {
+            logProgress(" : " + url);
+
+            //    URL,    :   
+            //     ,   JSON
+            Response response = page.waitForResponse(
+                    r -> r.url().startsWith(url) && r.ok(),
+                    new Page.WaitForResponseOptions().setTimeout(ScrapingConfig.API_RESPONSE_TIMEOUT),
+                    () -> page.navigate(url));
+
+            body = response.body();
+            etag = response.headerValue("etag");
+            lastModified = response.headerValue("last-modified");
+            log.debug("Captured API response: status {}, {} bytes", response.status(), body.length);
+            logProgress("API  ");
+
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load API data from: " + url, e);
+        }
     }
 
     /**
-     *  JSON   
+     *   API  ;    
      */
-    public String getJsonData() {
-        String json = getPageText();
-
-        if (json == null || json.trim().isEmpty()) {
-            throw new RuntimeException("API returned empty response");
-        }
+    public byte[] getResponseBody() {
+        return requireBody();
+    }
 
-        // ,    JSON
-        if (!json.trim().startsWith("{")) {
-            throw new RuntimeException("API response is not valid JSON");
-        }
+    /**
+     *   ETag   null
+     */
+    public String getETag() {
+        return etag;
+    }
 
-        log.debug("Retrieved JSON data, length: {}", json.length());
-        return json;
+    /**
+     *   Last-Modified   null
+     */
+    public String getLastModified() {
+        return lastModified;
     }
 
     /**
-     * ,  API   
+     * ,    ,   JSON-
      */
     public boolean isApiDataLoaded() {
-        try {
-            String pageText = getPageText();
-            return pageText != null &&
-                    pageText.contains("stat_status_pairs") &&
-                    pageText.trim().startsWith("{");
-        } catch (Exception e) {
-            log.error("Failed to check if API data is loaded", e);
+        if (body == null) {
             return false;
         }
+
+        for (byte b : body) {
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return b == '{';
+            }
+        }
+        return false;
     }
 
-}
\ No newline at end of file
+    private byte[] requireBody() {
+        if (body == null || body.length == 0) {
+            throw new RuntimeException("API returned empty response");
+        }
+        if (!isApiDataLoaded()) {
+            throw new RuntimeException("API response is not valid JSON");
+        }
+        return body;
+    }
+}
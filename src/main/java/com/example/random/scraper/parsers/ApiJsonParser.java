@@ -1,26 +1,52 @@
 package com.example.random.scraper.parsers;
 
+import com.example.random.model.ProblemCatalog;
 import com.example.random.model.ProblemDifficulty;
 import com.example.random.model.ProblemInfo;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 
 /**
- *  JSON   LeetCode API
+ *  JSON   LeetCode API.
+ *      :    JSON  ,
+ *             .
  */
 @Slf4j
 public class ApiJsonParser {
+    private static final String PROBLEMS_FIELD = "stat_status_pairs";
+    private static final int EXPECTED_PROBLEMS = 4096;
+    private static final int PARALLEL_THRESHOLD_BYTES = 256 * 1024;
+    private static final int PARALLEL_CHUNK_ELEMENTS = 256;
+
     private Consumer<String> progressCallback;
+    private boolean parallelParsing;
 
     public void setProgressCallback(Consumer<String> callback) {
         this.progressCallback = callback;
     }
 
+    /**
+     *       parse(byte[]);     
+     */
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
     private void logProgress(String message) {
         if (progressCallback != null) {
             progressCallback.accept(message);
@@ -32,40 +58,68 @@ public class ApiJsonParser {
      *  JSON       
      */
     public Map<String, ProblemInfo> parseProblemsFromJson(String json) {
-        Map<String, ProblemInfo> allProblems = new HashMap<>();
+        return parse(json).getProblems();
+    }
 
-        try {
-            logProgress("  JSON ...");
+    /**
+     *   API   : ,   
+     */
+    public ApiParseResult parse(String json) {
+        return parse(new JsonPullReader(json), this::parseProblemArray);
+    }
 
-            JSONObject root = new JSONObject(json);
+    /**
+     *   API      
+     */
+    public ApiParseResult parse(Reader source) {
+        return parse(new JsonPullReader(source), this::parseProblemArray);
+    }
 
-            if (!root.has("stat_status_pairs")) {
-                throw new IllegalArgumentException("JSON    'stat_status_pairs'");
-            }
+    /**
+     *    API       .
+     *          
+     *    CharBuffer,     
+     */
+    public ApiParseResult parse(byte[] json) {
+        if (parallelParsing && json.length >= PARALLEL_THRESHOLD_BYTES
+                && ForkJoinPool.getCommonPoolParallelism() >= 2) {
+            return parseParallel(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(json)));
+        }
+        return parse(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+    }
 
-            JSONArray problems = root.getJSONArray("stat_status_pairs");
-            logProgress("   JSON: " + problems.length());
+    /**
+     *   API,   stat_status_pairs    ForkJoinPool.
+     * ,   successfullyParsed  errors,    
+     */
+    public ApiParseResult parseParallel(CharSequence json) {
+        return parse(new JsonPullReader(json), reader -> parseProblemArrayParallel(json, reader));
+    }
 
-            int successfullyParsed = 0;
-            int errors = 0;
+    private ApiParseResult parse(JsonPullReader reader, ArrayParser arrayParser) {
+        try {
+            logProgress("  JSON ...");
 
-            for (int i = 0; i < problems.length(); i++) {
-                try {
-                    ProblemInfo problemInfo = parseSingleProblem(problems.getJSONObject(i));
-                    if (problemInfo != null) {
-                        allProblems.put(problemInfo.getTitle(), problemInfo);
-                        successfullyParsed++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    log.debug("Error parsing problem at index {}: {}", i, e.getMessage());
+            ApiParseResult result = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (PROBLEMS_FIELD.equals(reader.nextName()) && result == null) {
+                    result = arrayParser.parse(reader);
+                } else {
+                    reader.skipValue();
                 }
             }
+            reader.endObject();
+
+            if (result == null) {
+                throw new IllegalArgumentException("JSON    'stat_status_pairs'");
+            }
 
-            logProgress("  : " + successfullyParsed);
-            if (errors > 0) {
-                logProgress("  : " + errors);
+            logProgress("  : " + result.getSuccessfullyParsed());
+            if (result.getErrors() > 0) {
+                logProgress("  : " + result.getErrors());
             }
+            return result;
 
         } catch (Exception e) {
             String errorMsg = "   JSON: " + e.getMessage();
@@ -73,34 +127,185 @@ public class ApiJsonParser {
             log.error("JSON parsing error", e);
             throw new RuntimeException(errorMsg, e);
         }
+    }
 
-        return allProblems;
+    /**
+     *   stat_status_pairs,    
+     */
+    private ApiParseResult parseProblemArray(JsonPullReader reader) throws IOException {
+        ProblemCatalog.Builder catalog = ProblemCatalog.builder(EXPECTED_PROBLEMS);
+
+        reader.beginArray();
+        ElementCounts counts = parseElements(reader, catalog::add, 0);
+
+        return toResult(catalog, counts);
     }
 
     /**
-     *     JSON 
+     *   stat_status_pairs       ,
+     *             
      */
-    private ProblemInfo parseSingleProblem(JSONObject problemJson) {
+    private ApiParseResult parseProblemArrayParallel(CharSequence json, JsonPullReader reader) throws IOException {
+        reader.beginArray();
+        int arrayStart = (int) reader.position();
+        IntBuffer separators = new IntBuffer(EXPECTED_PROBLEMS);
+        int arrayEnd = (int) reader.skipArrayElements(position -> separators.add((int) position));
+
+        int elements = separators.size() + 1;
+        int chunks = Math.max(1, Math.min(elements / PARALLEL_CHUNK_ELEMENTS,
+                ForkJoinPool.getCommonPoolParallelism() * 4));
+        int[] starts = new int[chunks];
+        int[] ends = new int[chunks];
+        int[] firstIndexes = new int[chunks];
+        for (int k = 0; k < chunks; k++) {
+            int first = (int) ((long) k * elements / chunks);
+            int next = (int) ((long) (k + 1) * elements / chunks);
+            firstIndexes[k] = first;
+            starts[k] = first == 0 ? arrayStart : separators.get(first - 1) + 1;
+            ends[k] = k == chunks - 1 ? arrayEnd : separators.get(next - 1);
+        }
+
+        ChunkBuffer[] buffers = new ChunkBuffer[chunks];
+        ChunkTask task = new ChunkTask(json, starts, ends, firstIndexes, separators.size() > 0, buffers, 0, chunks);
         try {
-            JSONObject stat = problemJson.getJSONObject("stat");
-            JSONObject difficulty = problemJson.getJSONObject("difficulty");
+            if (chunks == 1 || ForkJoinPool.getCommonPoolParallelism() < 2) {
+                task.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(task);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        ProblemCatalog.Builder catalog = ProblemCatalog.builder(Math.max(EXPECTED_PROBLEMS, elements));
+        ElementCounts counts = new ElementCounts();
+        for (ChunkBuffer buffer : buffers) {
+            buffer.drainTo(catalog);
+            counts.add(buffer.counts);
+        }
+        return toResult(catalog, counts);
+    }
 
-            int number = stat.getInt("frontend_question_id");
-            String title = stat.getString("question__title").trim();
-            int level = difficulty.getInt("level");
+    /**
+     *          
+     */
+    private ElementCounts parseElements(JsonPullReader reader, ProblemSink sink, int firstIndex) throws IOException {
+        ElementCounts counts = new ElementCounts();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonPullReader.Token.BEGIN_OBJECT) {
+                counts.errors++;
+                log.debug("Error parsing problem at index {}: element is not an object", firstIndex + counts.total);
+                reader.skipValue();
+            } else {
+                ProblemFields fields = readProblem(reader);
+                if (fields.level >= 1 && fields.level <= 3) {
+                    counts.levels[fields.level]++;
+                }
 
-            //  
-            if (number <= 0 || title.isEmpty() || level < 1 || level > 3) {
-                log.debug("Invalid problem data: number={}, title='{}', level={}", number, title, level);
-                return null;
+                if (fields.addTo(sink)) {
+                    counts.successfullyParsed++;
+                }
             }
+            counts.total++;
+        }
+        reader.endArray();
+        return counts;
+    }
 
-            ProblemDifficulty problemDifficulty = ProblemDifficulty.fromLevel(level);
-            return new ProblemInfo(number, title, problemDifficulty);
+    private ApiParseResult toResult(ProblemCatalog.Builder catalog, ElementCounts counts) {
+        logProgress("   JSON: " + counts.total);
 
-        } catch (Exception e) {
-            log.debug("Error parsing single problem: {}", e.getMessage());
-            return null;
+        Map<ProblemDifficulty, Integer> statistics = new EnumMap<>(ProblemDifficulty.class);
+        for (ProblemDifficulty difficulty : ProblemDifficulty.values()) {
+            statistics.put(difficulty, counts.levels[difficulty.getLevel()]);
+        }
+
+        return new ApiParseResult(catalog.build(), Collections.unmodifiableMap(statistics),
+                counts.total, counts.successfullyParsed, counts.errors);
+    }
+
+    /**
+     *     ,   
+     */
+    private ProblemFields readProblem(JsonPullReader reader) throws IOException {
+        ProblemFields fields = new ProblemFields();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("stat".equals(name) && reader.peek() == JsonPullReader.Token.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String statName = reader.nextName();
+                    if ("frontend_question_id".equals(statName)) {
+                        fields.number = readInt(reader);
+                    } else if ("question__title".equals(statName)
+                            && reader.peek() == JsonPullReader.Token.STRING) {
+                        fields.title = reader.nextString();
+                    } else if ("question__title_slug".equals(statName)
+                            && reader.peek() == JsonPullReader.Token.STRING) {
+                        fields.slug = reader.nextString();
+                    } else if ("total_acs".equals(statName)) {
+                        fields.accepted = readLong(reader);
+                    } else if ("total_submitted".equals(statName)) {
+                        fields.submitted = readLong(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else if ("difficulty".equals(name) && reader.peek() == JsonPullReader.Token.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("level".equals(reader.nextName())) {
+                        fields.level = readInt(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else if ("paid_only".equals(name) && reader.peek() == JsonPullReader.Token.BOOLEAN) {
+                fields.paidOnly = reader.nextBoolean();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return fields;
+    }
+
+    /**
+     *    ;       
+     */
+    private int readInt(JsonPullReader reader) throws IOException {
+        JsonPullReader.Token token = reader.peek();
+        if (token != JsonPullReader.Token.NUMBER && token != JsonPullReader.Token.STRING) {
+            reader.skipValue();
+            return 0;
+        }
+
+        try {
+            return reader.nextInt();
+        } catch (NumberFormatException e) {
+            log.debug("Invalid integer value: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     *   ;        
+     */
+    private long readLong(JsonPullReader reader) throws IOException {
+        JsonPullReader.Token token = reader.peek();
+        if (token != JsonPullReader.Token.NUMBER && token != JsonPullReader.Token.STRING) {
+            reader.skipValue();
+            return 0;
+        }
+
+        try {
+            return Math.max(0, reader.nextLong());
+        } catch (NumberFormatException e) {
+            log.debug("Invalid counter value: {}", e.getMessage());
+            return 0;
         }
     }
 
@@ -113,9 +318,25 @@ public class ApiJsonParser {
         }
 
         try {
-            JSONObject root = new JSONObject(json);
-            return root.has("stat_status_pairs") &&
-                    root.getJSONArray("stat_status_pairs").length() > 0;
+            //   ,    
+            JsonPullReader reader = new JsonPullReader(json);
+            boolean hasProblems = false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (PROBLEMS_FIELD.equals(reader.nextName())
+                        && reader.peek() == JsonPullReader.Token.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    hasProblems = reader.hasNext();
+                    while (reader.hasNext()) {
+                        reader.skipValue();
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return hasProblems;
         } catch (Exception e) {
             log.debug("JSON validation failed: {}", e.getMessage());
             return false;
@@ -126,29 +347,201 @@ public class ApiJsonParser {
      *       JSON
      */
     public Map<ProblemDifficulty, Integer> getStatistics(String json) {
-        Map<ProblemDifficulty, Integer> stats = new HashMap<>();
-        stats.put(ProblemDifficulty.EASY, 0);
-        stats.put(ProblemDifficulty.MEDIUM, 0);
-        stats.put(ProblemDifficulty.HARD, 0);
-
         try {
-            JSONObject root = new JSONObject(json);
-            JSONArray problems = root.getJSONArray("stat_status_pairs");
+            return new HashMap<>(parse(json).getStatistics());
+        } catch (Exception e) {
+            log.error("Error calculating statistics", e);
+            Map<ProblemDifficulty, Integer> stats = new HashMap<>();
+            for (ProblemDifficulty difficulty : ProblemDifficulty.values()) {
+                stats.put(difficulty, 0);
+            }
+            return stats;
+        }
+    }
+
+    /**
+     *   ,   
+     */
+    private static final class ProblemFields {
+        int number;
+        String title;
+        int level;
+        String slug;
+        boolean paidOnly;
+        long accepted;
+        long submitted;
+
+        /**
+         *   ,    
+         */
+        boolean addTo(ProblemSink sink) {
+            if (title == null) {
+                return false;
+            }
+
+            String trimmedTitle = title.trim();
+
+            //  
+            if (number <= 0 || trimmedTitle.isEmpty() || level < 1 || level > 3) {
+                log.debug("Invalid problem data: number={}, title='{}', level={}", number, trimmedTitle, level);
+                return false;
+            }
+
+            sink.add(number, trimmedTitle, level, slug, paidOnly, accepted, submitted);
+            return true;
+        }
+    }
+
+    /**
+     *   ,     
+     */
+    private interface ArrayParser {
+        ApiParseResult parse(JsonPullReader reader) throws IOException;
+    }
+
+    /**
+     *   :         
+     */
+    private interface ProblemSink {
+        void add(int number, String title, int level, String slug, boolean paidOnly, long accepted, long submitted);
+    }
+
+    /**
+     *    
+     */
+    private static final class ElementCounts {
+        final int[] levels = new int[4];
+        int total;
+        int successfullyParsed;
+        int errors;
+
+        void add(ElementCounts other) {
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] += other.levels[i];
+            }
+            total += other.total;
+            successfullyParsed += other.successfullyParsed;
+            errors += other.errors;
+        }
+    }
+
+    /**
+     *   int  
+     */
+    private static final class IntBuffer {
+        private int[] values;
+        private int size;
+
+        IntBuffer(int capacity) {
+            this.values = new int[Math.max(16, capacity)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     *      ,      
+     */
+    private static final class ChunkBuffer implements ProblemSink {
+        private ElementCounts counts;
+        private int size;
+        private int[] numbers = new int[64];
+        private byte[] levels = new byte[64];
+        private String[] titles = new String[64];
+        private String[] slugs = new String[64];
+        private boolean[] paidOnly = new boolean[64];
+        private long[] acceptedCounts = new long[64];
+        private long[] submittedCounts = new long[64];
 
-            for (int i = 0; i < problems.length(); i++) {
+        @Override
+        public void add(int number, String title, int level, String slug, boolean paid, long accepted, long submitted) {
+            if (size == numbers.length) {
+                int capacity = size * 2;
+                numbers = Arrays.copyOf(numbers, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                slugs = Arrays.copyOf(slugs, capacity);
+                paidOnly = Arrays.copyOf(paidOnly, capacity);
+                acceptedCounts = Arrays.copyOf(acceptedCounts, capacity);
+                submittedCounts = Arrays.copyOf(submittedCounts, capacity);
+            }
+            numbers[size] = number;
+            levels[size] = (byte) level;
+            titles[size] = title;
+            slugs[size] = slug;
+            paidOnly[size] = paid;
+            acceptedCounts[size] = accepted;
+            submittedCounts[size] = submitted;
+            size++;
+        }
+
+        void drainTo(ProblemCatalog.Builder catalog) {
+            for (int i = 0; i < size; i++) {
+                catalog.add(numbers[i], titles[i], levels[i], slugs[i], paidOnly[i], acceptedCounts[i], submittedCounts[i]);
+            }
+        }
+    }
+
+    /**
+     *     ForkJoinPool;       
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence json;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] firstIndexes;
+        private final boolean required;
+        private final ChunkBuffer[] buffers;
+        private final int from;
+        private final int to;
+
+        ChunkTask(CharSequence json, int[] starts, int[] ends, int[] firstIndexes, boolean required,
+                  ChunkBuffer[] buffers, int from, int to) {
+            this.json = json;
+            this.starts = starts;
+            this.ends = ends;
+            this.firstIndexes = firstIndexes;
+            this.required = required;
+            this.buffers = buffers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && getPool() != null) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(json, starts, ends, firstIndexes, required, buffers, from, middle),
+                        new ChunkTask(json, starts, ends, firstIndexes, required, buffers, middle, to));
+                return;
+            }
+
+            for (int k = from; k < to; k++) {
+                JsonPullReader reader = JsonPullReader.arrayElements(json, starts[k], ends[k], required);
+                ChunkBuffer buffer = new ChunkBuffer();
                 try {
-                    JSONObject difficulty = problems.getJSONObject(i).getJSONObject("difficulty");
-                    int level = difficulty.getInt("level");
-                    ProblemDifficulty problemDifficulty = ProblemDifficulty.fromLevel(level);
-                    stats.put(problemDifficulty, stats.get(problemDifficulty) + 1);
-                } catch (Exception e) {
-                    log.debug("Error getting stats for problem {}: {}", i, e.getMessage());
+                    reader.beginArray();
+                    buffer.counts = parseElements(reader, buffer, firstIndexes[k]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
+                buffers[k] = buffer;
             }
-        } catch (Exception e) {
-            log.error("Error calculating statistics", e);
         }
-
-        return stats;
     }
-}
\ No newline at end of file
+}
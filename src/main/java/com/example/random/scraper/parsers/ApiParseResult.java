@@ -0,0 +1,34 @@
+package com.example.random.scraper.parsers;
+
+import com.example.random.model.ProblemCatalog;
+import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemInfo;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ *     API:  ,      
+ */
+@Value
+public class ApiParseResult {
+    ProblemCatalog catalog;
+    Map<ProblemDifficulty, Integer> statistics;
+    int totalCount;
+    int successfullyParsed;
+    int errors;
+
+    /**
+     *       -> 
+     */
+    public Map<String, ProblemInfo> getProblems() {
+        return catalog.asMap();
+    }
+
+    /**
+     *     stat_status_pairs
+     */
+    public boolean isValid() {
+        return totalCount > 0;
+    }
+}
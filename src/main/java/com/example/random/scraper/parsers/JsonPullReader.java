@@ -0,0 +1,578 @@
+package com.example.random.scraper.parsers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ *  pull- JSON:     ,    .
+ *  - Reader    [start, end).     ,
+ *     .        ,
+ *       .
+ */
+public final class JsonPullReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    /**
+     *    
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private final Reader reader;
+    private final CharSequence text;
+    private int textPosition;
+    private final int textEnd;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long bufferOffset;
+
+    private int[] stack = new int[32];
+    private int stackSize;
+    private Token peeked;
+    private final boolean fragment;
+    private final boolean fragmentRequired;
+
+    private final StringBuilder scratch = new StringBuilder();
+
+    public JsonPullReader(Reader reader) {
+        this(reader, null, 0, 0, 0, false, false);
+    }
+
+    public JsonPullReader(CharSequence text) {
+        this(text, 0, text.length());
+    }
+
+    /**
+     *  ,    text[start, end)
+     */
+    public JsonPullReader(CharSequence text, int start, int end) {
+        this(null, text, start, end, start, false, false);
+    }
+
+    private JsonPullReader(Reader reader, CharSequence text, int start, int end, long offset,
+                           boolean fragment, boolean fragmentRequired) {
+        this.reader = reader;
+        this.text = text;
+        this.textPosition = start;
+        this.textEnd = end;
+        this.bufferOffset = offset;
+        this.fragment = fragment;
+        this.fragmentRequired = fragmentRequired;
+        if (fragment) {
+            this.stack[stackSize++] = NONEMPTY_DOCUMENT;
+            this.peeked = Token.BEGIN_ARRAY;
+        } else {
+            this.stack[stackSize++] = EMPTY_DOCUMENT;
+        }
+    }
+
+    /**
+     *   ,    text[start, end)     .
+     *     : beginArray, hasNext, ..., endArray.
+     *  required,     (     )
+     */
+    public static JsonPullReader arrayElements(CharSequence text, int start, int end, boolean required) {
+        return new JsonPullReader(null, text, start, end, start, true, required);
+    }
+
+    /**
+     *       
+     */
+    public long position() {
+        return bufferOffset + pos;
+    }
+
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        int scope = stack[stackSize - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']' || (c == -1 && isFragmentEnd() && !fragmentRequired)) {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (c != -1) {
+                    pos--;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']' || (c == -1 && isFragmentEnd())) {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                stack[stackSize - 1] = DANGLING_NAME;
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected name");
+                }
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (nextNonWhitespace() == -1) {
+                    return peeked = Token.END_DOCUMENT;
+                }
+                throw syntaxError("Unexpected data after the document");
+        }
+
+        c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return peeked = Token.BEGIN_ARRAY;
+            case '"':
+                return peeked = Token.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                pos--;
+                return peeked = Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of input");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return peeked = Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     *         
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     *  ;     
+     */
+    public String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return readLiteral();
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+
+    /**
+     *   ;       ,  
+     */
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long nextLong() throws IOException {
+        Token token = peek();
+        String literal;
+        if (token == Token.STRING) {
+            peeked = null;
+            literal = readString().trim();
+        } else {
+            expect(Token.NUMBER);
+            literal = readLiteral();
+        }
+        return parseLong(literal);
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        String literal = readLiteral();
+        if ("true".equals(literal)) {
+            return true;
+        }
+        if ("false".equals(literal)) {
+            return false;
+        }
+        throw syntaxError("Invalid literal '" + literal + "'");
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        String literal = readLiteral();
+        if (!"null".equals(literal)) {
+            throw syntaxError("Invalid literal '" + literal + "'");
+        }
+    }
+
+    /**
+     *    ,     
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    skipString();
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("Unexpected end of input");
+                default:
+                    peeked = null;
+                    skipLiteral();
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     *       ,    :
+     *      .       separators.
+     *     .     
+     */
+    public long skipArrayElements(LongConsumer separators) throws IOException {
+        if (peeked != null || stack[stackSize - 1] != EMPTY_ARRAY) {
+            throw new IllegalStateException("skipArrayElements must directly follow beginArray");
+        }
+
+        int depth = 0;
+        boolean inString = false;
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw syntaxError("Unterminated array");
+            }
+            char c = buffer[pos++];
+            if (inString) {
+                if (c == '\\') {
+                    readChar();
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0) {
+                        if (c == '}') {
+                            throw syntaxError("Unexpected character '}'");
+                        }
+                        stackSize--;
+                        return position() - 1;
+                    }
+                    depth--;
+                    break;
+                case ',':
+                    if (depth == 0) {
+                        separators.accept(position() - 1);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " at position " + position());
+        }
+        peeked = null;
+    }
+
+    private boolean isFragmentEnd() {
+        return fragment && stackSize == 2;
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private String readString() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    if (scratch.length() == 0) {
+                        return new String(buffer, start, pos - start - 1);
+                    }
+                    scratch.append(buffer, start, pos - start - 1);
+                    return scratch.toString();
+                }
+                if (c == '\\') {
+                    scratch.append(buffer, start, pos - start - 1);
+                    scratch.append(readEscape());
+                    start = pos;
+                }
+            }
+            scratch.append(buffer, start, pos - start);
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    return;
+                }
+                if (c == '\\') {
+                    readEscape();
+                }
+            }
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        char escaped = readChar();
+        switch (escaped) {
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(readChar(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"':
+            case '\\':
+            case '/':
+                return escaped;
+            default:
+                throw syntaxError("Invalid escape sequence '\\" + escaped + "'");
+        }
+    }
+
+    private char readChar() throws IOException {
+        if (pos == limit && !fill()) {
+            throw syntaxError("Unexpected end of input");
+        }
+        return buffer[pos++];
+    }
+
+    private String readLiteral() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit && !isLiteralEnd(buffer[pos])) {
+                checkLiteralChar(buffer[pos]);
+                pos++;
+            }
+            scratch.append(buffer, start, pos - start);
+            if (pos < limit || !fill()) {
+                return scratch.toString();
+            }
+        }
+    }
+
+    private void skipLiteral() throws IOException {
+        while (true) {
+            while (pos < limit && !isLiteralEnd(buffer[pos])) {
+                checkLiteralChar(buffer[pos]);
+                pos++;
+            }
+            if (pos < limit || !fill()) {
+                return;
+            }
+        }
+    }
+
+    private long parseLong(String literal) {
+        int length = literal.length();
+        boolean negative = length > 0 && literal.charAt(0) == '-';
+        int i = negative ? 1 : 0;
+        if (i == length || length - i > 18) {
+            return (long) Double.parseDouble(literal);
+        }
+
+        long value = 0;
+        for (; i < length; i++) {
+            char c = literal.charAt(i);
+            if (c < '0' || c > '9') {
+                return (long) Double.parseDouble(literal);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        bufferOffset += limit;
+        pos = 0;
+        limit = 0;
+
+        if (reader != null) {
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            limit = Math.max(read, 0);
+        } else if (textPosition < textEnd) {
+            int count = Math.min(buffer.length, textEnd - textPosition);
+            if (text instanceof String) {
+                ((String) text).getChars(textPosition, textPosition + count, buffer, 0);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    buffer[i] = text.charAt(textPosition + i);
+                }
+            }
+            textPosition += count;
+            limit = count;
+        }
+        return limit > 0;
+    }
+
+    /**
+     *      - :  skipArrayElements      
+     */
+    private void checkLiteralChar(char c) throws IOException {
+        if (c == '{' || c == '[' || c == '"') {
+            throw syntaxError("Unexpected character '" + c + "' in literal");
+        }
+    }
+
+    private static boolean isLiteralEnd(char c) {
+        return c == ',' || c == '}' || c == ']' || c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException("Malformed JSON at position " + position() + ": " + message);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.random.scraper.services;
+
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *    :          ,
+ *   ,   ,
+ *      .     -   LongAdder
+ */
+public final class CacheMetrics {
+    //       :     12,5%
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final LongAdder catalogHits = new LongAdder();
+    private final LongAdder catalogMisses = new LongAdder();
+    private final LongAdder staleServes = new LongAdder();
+    private final LongAdder solvedHits = new LongAdder();
+    private final LongAdder solvedMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder bytesParsed = new LongAdder();
+    private final AtomicLongArray loadLatency = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator maxLoadMicros = new LongAccumulator(Long::max, 0);
+
+    void recordCatalogHit() {
+        catalogHits.increment();
+    }
+
+    void recordCatalogMiss() {
+        catalogMisses.increment();
+    }
+
+    void recordStaleServe() {
+        staleServes.increment();
+    }
+
+    void recordSolvedHit() {
+        solvedHits.increment();
+    }
+
+    void recordSolvedMiss() {
+        solvedMisses.increment();
+    }
+
+    void recordBytesParsed(long bytes) {
+        bytesParsed.add(bytes);
+    }
+
+    /**
+     *     ( )   
+     */
+    void recordLoad(long elapsedNanos, boolean success) {
+        long micros = Math.max(1, elapsedNanos / 1000);
+        loads.increment();
+        if (!success) {
+            loadFailures.increment();
+        }
+        loadLatency.incrementAndGet(bucketOf(micros));
+        maxLoadMicros.accumulate(micros);
+    }
+
+    /**
+     *    ,      
+     */
+    Snapshot snapshot(long evictions) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = loadLatency.get(i);
+            total += counts[i];
+        }
+        long max = maxLoadMicros.get();
+
+        return new Snapshot(catalogHits.sum(), catalogMisses.sum(), staleServes.sum(),
+                solvedHits.sum(), solvedMisses.sum(), evictions,
+                loads.sum(), loadFailures.sum(), bytesParsed.sum(),
+                percentileMs(counts, total, 0.50, max), percentileMs(counts, total, 0.95, max),
+                percentileMs(counts, total, 0.99, max), max / 1000.0);
+    }
+
+    private static int bucketOf(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        long mantissa = exponent >= SUB_BUCKET_BITS
+                ? micros >>> (exponent - SUB_BUCKET_BITS)
+                : micros << (SUB_BUCKET_BITS - exponent);
+        return exponent * SUB_BUCKETS + (int) (mantissa & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     *   ,    ,     
+     */
+    private static double percentileMs(long[] counts, long total, double percentile, long maxMicros) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                int exponent = i / SUB_BUCKETS;
+                long upper = exponent >= SUB_BUCKET_BITS
+                        ? (long) (SUB_BUCKETS + i % SUB_BUCKETS + 1) << (exponent - SUB_BUCKET_BITS)
+                        : (SUB_BUCKETS + i % SUB_BUCKETS + 1L) >> (SUB_BUCKET_BITS - exponent);
+                return Math.min(upper, maxMicros) / 1000.0;
+            }
+        }
+        return maxMicros / 1000.0;
+    }
+
+    /**
+     *   ;    
+     */
+    @Value
+    public static class Snapshot {
+        long catalogHits;
+        long catalogMisses;
+        long staleServes;
+        long solvedHits;
+        long solvedMisses;
+        long solvedEvictions;
+        long loads;
+        long loadFailures;
+        long bytesParsed;
+        double loadP50Ms;
+        double loadP95Ms;
+        double loadP99Ms;
+        double loadMaxMs;
+
+        /**
+         *    ,   (  )
+         */
+        public double getCatalogHitRatio() {
+            return ratio(catalogHits + staleServes, catalogMisses);
+        }
+
+        /**
+         *     ,  
+         */
+        public double getSolvedHitRatio() {
+            return ratio(solvedHits, solvedMisses);
+        }
+
+        private static double ratio(long served, long missed) {
+            long lookups = served + missed;
+            return lookups == 0 ? 0 : (double) served / lookups;
+        }
+
+        /**
+         *  :   - ,   
+         */
+        public Map<String, Number> toMap() {
+            Map<String, Number> values = new LinkedHashMap<>();
+            values.put("catalogHits", catalogHits);
+            values.put("catalogMisses", catalogMisses);
+            values.put("staleServes", staleServes);
+            values.put("catalogHitRatio", getCatalogHitRatio());
+            values.put("solvedHits", solvedHits);
+            values.put("solvedMisses", solvedMisses);
+            values.put("solvedEvictions", solvedEvictions);
+            values.put("solvedHitRatio", getSolvedHitRatio());
+            values.put("loads", loads);
+            values.put("loadFailures", loadFailures);
+            values.put("bytesParsed", bytesParsed);
+            values.put("loadP50Ms", loadP50Ms);
+            values.put("loadP95Ms", loadP95Ms);
+            values.put("loadP99Ms", loadP99Ms);
+            values.put("loadMaxMs", loadMaxMs);
+            return Collections.unmodifiableMap(values);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Metrics[catalog hits/misses/stale=%d/%d/%d, catalogHitRatio=%.2f, "
+                            + "solved hits/misses/evictions=%d/%d/%d, solvedHitRatio=%.2f, "
+                            + "loads=%d, loadFailures=%d, bytesParsed=%d, load p50/p95/p99=%.0f/%.0f/%.0fms]",
+                    catalogHits, catalogMisses, staleServes, getCatalogHitRatio(),
+                    solvedHits, solvedMisses, solvedEvictions, getSolvedHitRatio(),
+                    loads, loadFailures, bytesParsed, loadP50Ms, loadP95Ms, loadP99Ms);
+        }
+    }
+}
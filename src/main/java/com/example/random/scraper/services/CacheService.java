@@ -1,38 +1,96 @@
 package com.example.random.scraper.services;
 
+import com.example.random.config.ScrapingConfig;
+import com.example.random.model.CatalogSnapshot;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
+import com.example.random.model.ProblemIndex;
 import com.example.random.model.ProblemInfo;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
- *     
+ *     .
+ *       ,     ;
+ *      
  */
 @Slf4j
 public class CacheService {
-    private static final long DEFAULT_CACHE_EXPIRY_TIME = 24 * 60 * 60 * 1000;
-
-    private CacheEntry<Map<String, ProblemInfo>> problemsCache;
+    private volatile CacheEntry<CachedCatalog> problemsCache;
+    private volatile boolean snapshotChecked;
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder skippedReparses = new LongAdder();
+    private final CacheMetrics metrics = new CacheMetrics();
     @Getter private final long cacheExpiryTime;
-    private Consumer<String> progressCallback;
+    @Getter private final long hardExpiryTime;
+    private final Path snapshotFile;
+    private final SolvedProblemsCache solvedCache = new SolvedProblemsCache(ScrapingConfig.SOLVED_CACHE_TTL,
+            ScrapingConfig.SOLVED_CACHE_MAX_ENTRIES, ScrapingConfig.SOLVED_CACHE_MAX_BYTES);
+    private volatile Consumer<String> progressCallback;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+    private volatile Refresher refresher;
+    private volatile long nextRefreshAttempt;
+    private volatile int refreshFailures;
 
     public CacheService() {
-        this(DEFAULT_CACHE_EXPIRY_TIME);
+        this(ScrapingConfig.CACHE_SOFT_EXPIRY_TIME, ScrapingConfig.CACHE_HARD_EXPIRY_TIME, null);
     }
 
+    /**
+     *     ,    
+     */
     public CacheService(long cacheExpiryTimeMs) {
-        this.cacheExpiryTime = cacheExpiryTimeMs;
+        this(cacheExpiryTimeMs, cacheExpiryTimeMs, null);
+    }
+
+    /**
+     * ,             
+     */
+    public CacheService(Path snapshotFile) {
+        this(ScrapingConfig.CACHE_SOFT_EXPIRY_TIME, ScrapingConfig.CACHE_HARD_EXPIRY_TIME, snapshotFile);
+    }
+
+    public CacheService(long softExpiryTimeMs, long hardExpiryTimeMs, Path snapshotFile) {
+        if (hardExpiryTimeMs < softExpiryTimeMs) {
+            throw new IllegalArgumentException("Hard expiry must not be shorter than soft expiry");
+        }
+        this.cacheExpiryTime = softExpiryTimeMs;
+        this.hardExpiryTime = hardExpiryTimeMs;
+        this.snapshotFile = snapshotFile;
     }
 
     public void setProgressCallback(Consumer<String> callback) {
         this.progressCallback = callback;
     }
 
+    /**
+     *       .
+     *      {@link #cacheProblems}  {@link #revalidate}
+     */
+    public void setRefresher(Refresher refresher) {
+        this.refresher = refresher;
+    }
+
     private void logProgress(String message) {
-        if (progressCallback != null) {
-            progressCallback.accept(message);
+        Consumer<String> callback = progressCallback;
+        if (callback != null) {
+            callback.accept(message);
         }
         log.info(message);
     }
@@ -41,62 +99,314 @@ public class CacheService {
      *      
      */
     public void cacheProblems(Map<String, ProblemInfo> problems) {
+        cacheProblems(problems, null);
+    }
+
+    /**
+     *           API,    .
+     * ,      
+     */
+    public synchronized void cacheProblems(Map<String, ProblemInfo> problems, PayloadFingerprint fingerprint) {
         if (problems == null || problems.isEmpty()) {
             log.warn("Attempted to cache empty problems data");
             return;
         }
 
-        problemsCache = new CacheEntry<>(problems, System.currentTimeMillis());
+        long timestamp = System.currentTimeMillis();
+        ProblemCatalog catalog = ProblemCatalog.from(problems);
+        problemsCache = new CacheEntry<>(
+                new CachedCatalog(problems, catalog, ProblemIndex.build(catalog), fingerprint), timestamp);
+        snapshotChecked = true;
+        if (fingerprint != null) {
+            refreshes.increment();
+            metrics.recordBytesParsed(fingerprint.getLength());
+        }
         logProgress("     : " + problems.size() + " ");
+        saveSnapshot(catalog, timestamp, fingerprint);
+    }
+
+    /**
+     *      API:    ,
+     *          (    ).
+     *   null,     
+     */
+    public synchronized Map<String, ProblemInfo> revalidate(PayloadFingerprint fingerprint) {
+        loadSnapshot();
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry == null || !fingerprint.sameContent(entry.data.fingerprint)) {
+            return null;
+        }
+
+        refreshes.increment();
+        skippedReparses.increment();
+        long timestamp = System.currentTimeMillis();
+        problemsCache = new CacheEntry<>(
+                new CachedCatalog(entry.data.problems, entry.data.catalog, entry.data.index, fingerprint), timestamp);
+        touchSnapshot(timestamp);
+        log.debug("Payload unchanged (hash {}, ETag {}, Last-Modified {}), reparse skipped",
+                Long.toHexString(fingerprint.getContentHash()), fingerprint.getEtag(), fingerprint.getLastModified());
+        logProgress(" API  ,    ");
+        return entry.data.problems;
     }
 
     /**
-     *      
+     *      .
+     * ,      ,      
      */
     public Map<String, ProblemInfo> getCachedProblems() {
-        if (problemsCache == null) {
+        loadSnapshot();
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry == null) {
+            metrics.recordCatalogMiss();
             logProgress(" ");
             return null;
         }
 
-        if (isExpired(problemsCache)) {
-            logProgress(" ,  ");
-            problemsCache = null;
+        long age = System.currentTimeMillis() - entry.timestamp;
+        if (age > hardExpiryTime || (age > cacheExpiryTime && refresher == null)) {
+            //     :    API     
+            metrics.recordCatalogMiss();
+            logProgress(" ,  ");
             return null;
         }
 
+        if (age > cacheExpiryTime) {
+            metrics.recordStaleServe();
+            logProgress("    ,     ");
+            scheduleRefresh();
+            return entry.data.problems;
+        }
+
+        metrics.recordCatalogHit();
         logProgress("    ");
-        return problemsCache.data;
+        return entry.data.problems;
+    }
+
+    /**
+     *     
+     */
+    public void cacheSolvedProblems(String username, ExclusionSet solved) {
+        if (solved == null || solved.isEmpty()) {
+            return;
+        }
+
+        solvedCache.put(username, solved);
+        log.debug("Cached {} solved problems of {}", solved.size(), username);
+    }
+
+    /**
+     *        null,        
+     */
+    public ExclusionSet getCachedSolvedProblems(String username) {
+        ExclusionSet solved = solvedCache.get(username);
+        if (solved == null) {
+            metrics.recordSolvedMiss();
+        } else {
+            metrics.recordSolvedHit();
+            logProgress("     " + username + ": " + solved.size());
+        }
+        return solved;
+    }
+
+    /**
+     *          ,     
+     */
+    ExclusionSet peekSolvedProblems(String username) {
+        return solvedCache.get(username);
+    }
+
+    /**
+     *      
+     */
+    void recordLoad(long elapsedNanos, boolean success) {
+        metrics.recordLoad(elapsedNanos, success);
+    }
+
+    /**
+     *    
+     */
+    public CacheMetrics.Snapshot getMetrics() {
+        return metrics.snapshot(solvedCache.evictionCount());
+    }
+
+    /**
+     * ,      ;       
+     */
+    Map<String, ProblemInfo> peekFreshProblems() {
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry == null || System.currentTimeMillis() - entry.timestamp > cacheExpiryTime) {
+            return null;
+        }
+        return entry.data.problems;
+    }
+
+    /**
+     *      .
+     *       
+     */
+    public ProblemCatalog getCatalog(Map<String, ProblemInfo> problems) {
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry != null && entry.data.problems == problems) {
+            return entry.data.catalog;
+        }
+
+        return ProblemCatalog.from(problems);
+    }
+
+    /**
+     *     .
+     *     ,     
+     */
+    public ProblemIndex getIndex(Map<String, ProblemInfo> problems) {
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry != null && entry.data.problems == problems) {
+            return entry.data.index;
+        }
+
+        return ProblemIndex.build(ProblemCatalog.from(problems));
     }
 
     /**
      *   
      */
-    public void clearCache() {
+    public synchronized void clearCache() {
         problemsCache = null;
+        solvedCache.clear();
+        snapshotChecked = true;
+        if (snapshotFile != null) {
+            try {
+                Files.deleteIfExists(snapshotFile);
+            } catch (IOException e) {
+                log.warn("Failed to delete catalog snapshot {}: {}", snapshotFile, e.getMessage());
+            }
+        }
         logProgress(" ");
     }
 
     /**
-     * ,       
+     *      ;    
+     *     
+     */
+    private void scheduleRefresh() {
+        if (System.currentTimeMillis() < nextRefreshAttempt || !refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        refreshExecutor.execute(this::runRefresh);
+    }
+
+    private void runRefresh() {
+        try {
+            log.info("Refreshing stale problem catalog in background");
+            refresher.refresh();
+            refreshFailures = 0;
+            nextRefreshAttempt = 0;
+        } catch (Exception e) {
+            int failures = ++refreshFailures;
+            long backoff = Math.min(ScrapingConfig.CACHE_REFRESH_BACKOFF << Math.min(failures - 1, 20),
+                    ScrapingConfig.CACHE_REFRESH_MAX_BACKOFF);
+            nextRefreshAttempt = System.currentTimeMillis() + backoff;
+            log.warn("Background catalog refresh failed (attempt {}), next attempt in {} ms", failures, backoff, e);
+            logProgress("     ,   .   "
+                    + (backoff / 1000) + " ");
+        } finally {
+            refreshInProgress.set(false);
+        }
+    }
+
+    /**
+     *          ,     .
+     *      ,     
      */
-    private boolean isExpired(CacheEntry<?> entry) {
-        return (System.currentTimeMillis() - entry.timestamp) > cacheExpiryTime;
+    private void loadSnapshot() {
+        if (snapshotChecked) {
+            return;
+        }
+
+        synchronized (this) {
+            if (snapshotChecked) {
+                return;
+            }
+            snapshotChecked = true;
+            if (snapshotFile == null || problemsCache != null || !Files.exists(snapshotFile)) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                CatalogSnapshot snapshot = CatalogSnapshot.read(snapshotFile);
+                ProblemCatalog catalog = snapshot.getCatalog();
+                if (catalog.isEmpty()) {
+                    return;
+                }
+
+                PayloadFingerprint fingerprint = snapshot.getPayloadLength() < 0 ? null
+                        : new PayloadFingerprint(snapshot.getPayloadHash(), snapshot.getPayloadLength(), null, null);
+                problemsCache = new CacheEntry<>(
+                        new CachedCatalog(catalog.asMap(), catalog, ProblemIndex.build(catalog), fingerprint),
+                        snapshot.getTimestamp());
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                logProgress("     : " + catalog.size() + "   " + elapsedMs + " ");
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to load catalog snapshot from {}: {}", snapshotFile, e.getMessage());
+            }
+        }
+    }
+
+    private void saveSnapshot(ProblemCatalog catalog, long timestamp, PayloadFingerprint fingerprint) {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        try {
+            CatalogSnapshot.write(snapshotFile, catalog, timestamp,
+                    fingerprint == null ? 0 : fingerprint.getContentHash(),
+                    fingerprint == null ? -1 : fingerprint.getLength());
+            log.debug("Saved catalog snapshot with {} problems to {}", catalog.size(), snapshotFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to save catalog snapshot to {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    private void touchSnapshot(long timestamp) {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return;
+        }
+
+        try {
+            CatalogSnapshot.touch(snapshotFile, timestamp);
+        } catch (IOException e) {
+            log.warn("Failed to update catalog snapshot timestamp in {}: {}", snapshotFile, e.getMessage());
+        }
     }
 
     /**
      *   
      */
     public CacheStats getStats() {
-        if (problemsCache == null) {
-            return new CacheStats(false, 0, 0, 0);
+        CacheEntry<CachedCatalog> entry = problemsCache;
+        if (entry == null) {
+            return new CacheStats(false, false, 0, 0, 0, refreshes.sum(), skippedReparses.sum(),
+                    refreshInProgress.get(), refreshFailures,
+                    solvedCache.size(), solvedCache.estimatedBytes(), getMetrics());
         }
 
-        boolean isValid = !isExpired(problemsCache);
-        int size = problemsCache.data.size();
-        long age = System.currentTimeMillis() - problemsCache.timestamp;
+        long age = System.currentTimeMillis() - entry.timestamp;
+        boolean isValid = age <= cacheExpiryTime;
+        boolean isStale = !isValid && age <= hardExpiryTime;
+        int size = entry.data.problems.size();
 
-        return new CacheStats(isValid, size, problemsCache.timestamp, age);
+        return new CacheStats(isValid, isStale, size, entry.timestamp, age, refreshes.sum(), skippedReparses.sum(),
+                refreshInProgress.get(), refreshFailures,
+                solvedCache.size(), solvedCache.estimatedBytes(), getMetrics());
+    }
+
+    /**
+     *      
+     */
+    @FunctionalInterface
+    public interface Refresher {
+        void refresh() throws Exception;
     }
 
     /**
@@ -109,6 +419,17 @@ public class CacheService {
         final long timestamp;
     }
 
+    /**
+     *       ,    ;  
+     */
+    @AllArgsConstructor
+    private static class CachedCatalog {
+        final Map<String, ProblemInfo> problems;
+        final ProblemCatalog catalog;
+        final ProblemIndex index;
+        final PayloadFingerprint fingerprint;
+    }
+
     /**
      *  
      */
@@ -116,9 +437,17 @@ public class CacheService {
     @Getter
     public static class CacheStats {
         private final boolean valid;
+        private final boolean stale;
         private final int size;
         private final long lastUpdate;
         private final long age;
+        private final long refreshes;
+        private final long skippedReparses;
+        private final boolean refreshInProgress;
+        private final int refreshFailures;
+        private final int solvedUsers;
+        private final long solvedBytes;
+        private final CacheMetrics.Snapshot metrics;
 
         public String getFormattedAge() {
             if (age < 1000) return age + "ms";
@@ -129,8 +458,10 @@ public class CacheService {
 
         @Override
         public String toString() {
-            return String.format("Cache[valid=%s, size=%d, age=%s]",
-                    valid, size, getFormattedAge());
+            return String.format("Cache[valid=%s, stale=%s, size=%d, age=%s, refreshes=%d, skippedReparses=%d, "
+                            + "refreshing=%s, refreshFailures=%d, solvedUsers=%d, solvedBytes=%d] %s",
+                    valid, stale, size, getFormattedAge(), refreshes, skippedReparses,
+                    refreshInProgress, refreshFailures, solvedUsers, solvedBytes, metrics);
         }
     }
-}
\ No newline at end of file
+}
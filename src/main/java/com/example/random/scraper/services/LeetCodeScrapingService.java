@@ -1,15 +1,21 @@
 package com.example.random.scraper.services;
 
+import com.example.random.config.ScrapingConfig;
 import com.example.random.exception.LeetCodeExceptions.*;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
+import com.example.random.model.ProblemIndex;
 import com.example.random.model.ProblemInfo;
 import com.example.random.scraper.browser.BrowserManager;
 import com.example.random.scraper.browser.RetryManager;
 import com.example.random.scraper.pages.LeetCodeApiPage;
 import com.example.random.scraper.pages.LeetCodeProfilePage;
 import com.example.random.scraper.parsers.ApiJsonParser;
+import com.example.random.scraper.parsers.ApiParseResult;
 import com.example.random.scraper.ProblemMatcher;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -20,18 +26,25 @@ import java.util.function.Consumer;
  */
 @Slf4j
 public class LeetCodeScrapingService {
+    private static final String TITLE_MEMO_FILE = "title-memo.bin";
+    private static final String CATALOG_SNAPSHOT_FILE = "catalog.snapshot";
+
     private final CacheService cacheService;
     private final RetryManager retryManager;
     private final ApiJsonParser jsonParser;
     private final ProblemMatcher problemMatcher;
+    //           
+    private final SingleFlight<String, Map<String, ProblemInfo>> catalogLoads = new SingleFlight<>();
+    private final SingleFlight<String, ExclusionSet> solvedLoads = new SingleFlight<>();
 
-    private Consumer<String> progressCallback;
+    private volatile Consumer<String> progressCallback;
 
     public LeetCodeScrapingService() {
-        this.cacheService = new CacheService();
+        this.cacheService = new CacheService(Paths.get(ScrapingConfig.APP_DATA_DIR, CATALOG_SNAPSHOT_FILE));
         this.retryManager = new RetryManager();
         this.jsonParser = new ApiJsonParser();
-        this.problemMatcher = new ProblemMatcher();
+        this.problemMatcher = new ProblemMatcher(Paths.get(ScrapingConfig.APP_DATA_DIR, TITLE_MEMO_FILE));
+        this.cacheService.setRefresher(this::refreshProblemsInfo);
     }
 
     public void setProgressCallback(Consumer<String> callback) {
@@ -51,9 +64,31 @@ public class LeetCodeScrapingService {
     }
 
     /**
-     *      
+     *      .
+     *             ,
+     *      ;      
      */
-    public Set<Integer> fetchSolvedProblems(String username, boolean headless) throws LeetCodeScrapingException {
+    public ExclusionSet fetchSolvedProblems(String username, boolean headless) throws LeetCodeScrapingException {
+        ExclusionSet cachedSolved = cacheService.getCachedSolvedProblems(username);
+        if (cachedSolved != null) {
+            return cachedSolved;
+        }
+
+        return solvedLoads.execute(SolvedProblemsCache.keyOf(username),
+                () -> loadSolvedProblems(username, headless)).copy();
+    }
+
+    private ExclusionSet loadSolvedProblems(String username, boolean headless) throws LeetCodeScrapingException {
+        //         ;     
+        ExclusionSet cachedSolved = cacheService.peekSolvedProblems(username);
+        if (cachedSolved != null) {
+            return cachedSolved;
+        }
+
+        return timedLoad(() -> scrapeSolvedProblems(username, headless));
+    }
+
+    private ExclusionSet scrapeSolvedProblems(String username, boolean headless) throws LeetCodeScrapingException {
         logProgress("     : " + username);
         logProgress(" : " + (headless ? "headless ()" : " ()"));
 
@@ -65,14 +100,15 @@ public class LeetCodeScrapingService {
 
             if (solvedTitles.isEmpty()) {
                 logProgress("   ");
-                return Set.of();
+                return new ExclusionSet();
             }
 
-            //     
-            Map<String, ProblemInfo> allProblems = getAllProblemsInfo(browserManager);
+            //     :  ,        
+            Map<String, ProblemInfo> allProblems = loadProblemsInfo(() -> getAllProblemsInfo(browserManager));
 
             //    
-            Set<Integer> solvedNumbers = matchSolvedProblems(solvedTitles, allProblems);
+            ExclusionSet solvedNumbers = matchSolvedProblems(solvedTitles, allProblems);
+            cacheService.cacheSolvedProblems(username, solvedNumbers);
 
             logProgress("  !");
             return solvedNumbers;
@@ -88,25 +124,66 @@ public class LeetCodeScrapingService {
      *        
      */
     public Map<String, ProblemInfo> getAllProblemsInfo(boolean headless) throws ApiDataException {
-        //  
+        try {
+            return loadProblemsInfo(() -> {
+                logProgress(" : " + (headless ? "headless ()" : " ()"));
+
+                try (BrowserManager browserManager = new BrowserManager(headless)) {
+                    browserManager.setProgressCallback(progressCallback);
+                    //     ,     
+                    return getAllProblemsInfo(browserManager);
+                }
+            });
+
+        } catch (Exception e) {
+            throw new ApiDataException("     ", e);
+        }
+    }
+
+    /**
+     *   ,    -  API. ,    ,   ;
+     *       ,      
+     */
+    private <E extends Exception> Map<String, ProblemInfo> loadProblemsInfo(
+            SingleFlight.Loader<Map<String, ProblemInfo>, E> apiLoader) throws E {
+
         Map<String, ProblemInfo> cachedProblems = cacheService.getCachedProblems();
         if (cachedProblems != null) {
             return cachedProblems;
         }
 
-        logProgress(" : " + (headless ? "headless ()" : " ()"));
-
-        try (BrowserManager browserManager = new BrowserManager(headless)) {
-            browserManager.setProgressCallback(progressCallback);
-            Map<String, ProblemInfo> problems = getAllProblemsInfo(browserManager);
-
-            //   
-            cacheService.cacheProblems(problems);
+        return catalogLoads.execute(ScrapingConfig.LEETCODE_API_URL, () -> {
+            Map<String, ProblemInfo> loaded = cacheService.peekFreshProblems();
+            return loaded != null ? loaded : timedLoad(apiLoader);
+        });
+    }
 
-            return problems;
+    /**
+     *    ;      .
+     *    (      ),     :
+     *       API     
+     */
+    private void refreshProblemsInfo() throws Exception {
+        catalogLoads.execute(ScrapingConfig.LEETCODE_API_URL, () -> timedLoad(() -> {
+            try (BrowserManager browserManager = new BrowserManager(true)) {
+                browserManager.setProgressCallback(progressCallback);
+                return getAllProblemsInfo(browserManager);
+            }
+        }));
+    }
 
-        } catch (Exception e) {
-            throw new ApiDataException("     ", e);
+    /**
+     *     ,        
+     */
+    private <V, E extends Exception> V timedLoad(SingleFlight.Loader<V, E> loader) throws E {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            V value = loader.load();
+            success = true;
+            return value;
+        } finally {
+            cacheService.recordLoad(System.nanoTime() - start, success);
         }
     }
 
@@ -132,7 +209,8 @@ public class LeetCodeScrapingService {
     }
 
     /**
-     *     API
+     *     API.     ,    ,
+     *        
      */
     private Map<String, ProblemInfo> getAllProblemsInfo(BrowserManager browserManager) throws Exception {
         logProgress("     API...");
@@ -146,30 +224,53 @@ public class LeetCodeScrapingService {
             throw new RuntimeException("API    ");
         }
 
-        String json = apiPage.getJsonData();
+        byte[] body = apiPage.getResponseBody();
+        PayloadFingerprint fingerprint = PayloadFingerprint.of(body, apiPage.getETag(), apiPage.getLastModified());
+        Map<String, ProblemInfo> unchanged = cacheService.revalidate(fingerprint);
+        if (unchanged != null) {
+            return unchanged;
+        }
 
-        if (!jsonParser.isValidJson(json)) {
+        // ,         
+        ApiParseResult parseResult = jsonParser.parse(body);
+        log.debug("Parsed API response of {} bytes", body.length);
+        if (!parseResult.isValid()) {
             throw new RuntimeException("  JSON  API");
         }
 
-        Map<String, ProblemInfo> problems = jsonParser.parseProblemsFromJson(json);
+        Map<String, ProblemInfo> problems = parseResult.getProblems();
         logProgress("  : " + problems.size());
 
+        cacheService.cacheProblems(problems, fingerprint);
         return problems;
     }
 
     /**
      *      
      */
-    private Set<Integer> matchSolvedProblems(Set<String> solvedTitles, Map<String, ProblemInfo> allProblems) {
+    private ExclusionSet matchSolvedProblems(Set<String> solvedTitles, Map<String, ProblemInfo> allProblems) {
         logProgress("    ...");
 
-        Set<Integer> solvedNumbers = problemMatcher.matchProblemsToNumbers(solvedTitles, allProblems);
+        ExclusionSet solvedNumbers = problemMatcher.matchProblemsToNumbers(solvedTitles, allProblems);
 
         logProgress(" : " + solvedNumbers.size() + "  " + solvedTitles.size());
         return solvedNumbers;
     }
 
+    /**
+     *          
+     */
+    public ProblemCatalog getProblemCatalog(Map<String, ProblemInfo> problems) {
+        return cacheService.getCatalog(problems);
+    }
+
+    /**
+     *       
+     */
+    public ProblemIndex getProblemIndex(Map<String, ProblemInfo> problems) {
+        return cacheService.getIndex(problems);
+    }
+
     /**
      *   
      */
@@ -177,6 +278,13 @@ public class LeetCodeScrapingService {
         return cacheService.getStats();
     }
 
+    /**
+     *    
+     */
+    public CacheMetrics.Snapshot getCacheMetrics() {
+        return cacheService.getMetrics();
+    }
+
     /**
      *  
      */
@@ -0,0 +1,53 @@
+package com.example.random.scraper.services;
+
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ *    API: 64-  ,   HTTP- (ETag, Last-Modified),
+ *    
+ */
+@Value
+public class PayloadFingerprint {
+    long contentHash;
+    int length;
+    String etag;
+    String lastModified;
+
+    public static PayloadFingerprint of(byte[] body, String etag, String lastModified) {
+        return new PayloadFingerprint(hash(body), body.length, etag, lastModified);
+    }
+
+    /**
+     *    .      :
+     *           
+     */
+    public boolean sameContent(PayloadFingerprint other) {
+        return other != null && contentHash == other.contentHash && length == other.length;
+    }
+
+    /**
+     *      8    SplitMix64
+     */
+    private static long hash(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        long hash = body.length * 0x9E3779B97F4A7C15L;
+        int i = 0;
+        for (; i + Long.BYTES <= body.length; i += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ mix64(buffer.getLong(i)), 29) * 0xBF58476D1CE4E5B9L;
+        }
+        long tail = 0;
+        for (int shift = 0; i < body.length; i++, shift += 8) {
+            tail |= (body[i] & 0xFFL) << shift;
+        }
+        return mix64(hash ^ mix64(tail));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.random.scraper.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *     :   ,  
+ *          .     
+ * CompletableFuture,       .
+ *     -     
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     *            
+     */
+    <E extends Exception> V execute(K key, Loader<V, E> loader) throws E {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.load();
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     *  ,    
+     */
+    long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V await(CompletableFuture<V> future) throws E {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            //    E   
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    @FunctionalInterface
+    interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+}
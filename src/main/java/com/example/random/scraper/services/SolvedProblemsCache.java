@@ -0,0 +1,145 @@
+package com.example.random.scraper.services;
+
+import com.example.random.model.ExclusionSet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *       .
+ *          (LRU),
+ *         .
+ *    : ExclusionSet 
+ */
+@Slf4j
+public class SolvedProblemsCache {
+    //    :  LinkedHashMap,    
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long timeToLive;
+    private final int maxEntries;
+    private final long maxBytes;
+    private long totalBytes;
+    private final LongAdder evictions = new LongAdder();
+
+    public SolvedProblemsCache(long timeToLiveMs, int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Solved problems cache bounds must be positive");
+        }
+        this.timeToLive = timeToLiveMs;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     *        null,      
+     */
+    public synchronized ExclusionSet get(String username) {
+        String key = keyOf(username);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() - entry.timestamp > timeToLive) {
+            entries.remove(key);
+            totalBytes -= entry.bytes;
+            evictions.increment();
+            return null;
+        }
+        return entry.solved.copy();
+    }
+
+    /**
+     *           
+     */
+    public synchronized void put(String username, ExclusionSet solved) {
+        String key = keyOf(username);
+        ExclusionSet copy = solved.copy();
+        long bytes = copy.estimatedBytes() + ENTRY_OVERHEAD_BYTES + 2L * key.length();
+
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.bytes;
+        }
+        if (bytes > maxBytes) {
+            log.debug("Solved set of {} ({} bytes) exceeds cache limit, not cached", key, bytes);
+            return;
+        }
+
+        entries.put(key, new Entry(copy, System.currentTimeMillis(), bytes));
+        totalBytes += bytes;
+        evict();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     *  ,       
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     *      
+     */
+    public synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    /**
+     *   ,    ,    
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> {
+            boolean expired = now - entry.timestamp > timeToLive;
+            if (expired) {
+                totalBytes -= entry.bytes;
+                evictions.increment();
+            }
+            return expired;
+        });
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            totalBytes -= eldest.getValue().bytes;
+            iterator.remove();
+            evictions.increment();
+            log.debug("Evicted solved set of {} from cache", eldest.getKey());
+        }
+    }
+
+    /**
+     *   LeetCode   
+     */
+    static String keyOf(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final ExclusionSet solved;
+        final long timestamp;
+        final long bytes;
+
+        Entry(ExclusionSet solved, long timestamp, long bytes) {
+            this.solved = solved;
+            this.timestamp = timestamp;
+            this.bytes = bytes;
+        }
+    }
+}
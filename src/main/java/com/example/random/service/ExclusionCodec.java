@@ -0,0 +1,260 @@
+package com.example.random.service;
+
+import com.example.random.model.ExclusionSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ *    .
+ *       split  ,   ("1-150, 152, 200-260")
+ *         .
+ */
+public final class ExclusionCodec {
+    private static final Logger logger = LoggerFactory.getLogger(ExclusionCodec.class);
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MIN_RANGE_LENGTH = 3;
+    //     :      
+    static final int MAX_RANGE_LENGTH = 1 << 22;
+
+    private ExclusionCodec() {
+    }
+
+    /**
+     *      
+     */
+    public static ExclusionSet parse(CharSequence text) {
+        Parser parser = new Parser();
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                parser.accept(text.charAt(i));
+            }
+        }
+        return parser.finish();
+    }
+
+    /**
+     *       ,   
+     */
+    public static ExclusionSet parse(Reader reader) throws IOException {
+        Parser parser = new Parser();
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                parser.accept(buffer[i]);
+            }
+        }
+        return parser.finish();
+    }
+
+    /**
+     *         UTF-8
+     */
+    public static ExclusionSet parse(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     *       
+     */
+    public static String format(ExclusionSet numbers) {
+        if (numbers == null || numbers.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(Math.min(numbers.size(), 1 << 16) * 4);
+        try {
+            format(numbers, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     *       ,   
+     */
+    public static void format(ExclusionSet numbers, Appendable target) throws IOException {
+        if (numbers == null || numbers.isEmpty()) {
+            return;
+        }
+
+        boolean[] first = {true};
+        try {
+            numbers.forEachRun((from, to) -> {
+                try {
+                    if (!first[0]) {
+                        target.append(", ");
+                    }
+                    appendRun(target, from, to);
+                    first[0] = false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void appendRun(Appendable target, int from, int to) throws IOException {
+        if ((long) to - from + 1 >= MIN_RANGE_LENGTH) {
+            target.append(Integer.toString(from)).append('-').append(Integer.toString(to));
+            return;
+        }
+
+        target.append(Integer.toString(from));
+        if (to != from) {
+            target.append(", ").append(Integer.toString(to));
+        }
+    }
+
+    /**
+     *   : ,  "-"    .
+     *  - ,   ,  ;     .
+     *       ,
+ *   MAX_RANGE_LENGTH   .
+     */
+    private static final class Parser {
+        private static final int EXPECT_NUMBER = 0;
+        private static final int IN_FIRST = 1;
+        private static final int AFTER_FIRST = 2;
+        private static final int EXPECT_SECOND = 3;
+        private static final int IN_SECOND = 4;
+        private static final int AFTER_SECOND = 5;
+        private static final int SKIP_INVALID = 6;
+
+        private final ExclusionSet result = new ExclusionSet();
+        private int state = EXPECT_NUMBER;
+        private long first;
+        private long second;
+        private int invalidCount;
+
+        void accept(char c) {
+            if (isSeparator(c)) {
+                completeElement();
+                return;
+            }
+
+            boolean digit = c >= '0' && c <= '9';
+            boolean space = Character.isWhitespace(c);
+
+            switch (state) {
+                case EXPECT_NUMBER:
+                    if (digit) {
+                        first = c - '0';
+                        state = IN_FIRST;
+                    } else if (!space) {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                case IN_FIRST:
+                    if (digit) {
+                        first = appendDigit(first, c);
+                    } else if (c == '-') {
+                        state = EXPECT_SECOND;
+                    } else if (space) {
+                        state = AFTER_FIRST;
+                    } else {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                case AFTER_FIRST:
+                    if (digit) {
+                        completeElement();
+                        first = c - '0';
+                        state = IN_FIRST;
+                    } else if (c == '-') {
+                        state = EXPECT_SECOND;
+                    } else if (!space) {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                case EXPECT_SECOND:
+                    if (digit) {
+                        second = c - '0';
+                        state = IN_SECOND;
+                    } else if (!space) {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                case IN_SECOND:
+                    if (digit) {
+                        second = appendDigit(second, c);
+                    } else if (space) {
+                        state = AFTER_SECOND;
+                    } else {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                case AFTER_SECOND:
+                    if (digit) {
+                        completeElement();
+                        first = c - '0';
+                        state = IN_FIRST;
+                    } else if (!space) {
+                        state = SKIP_INVALID;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        ExclusionSet finish() {
+            completeElement();
+            if (invalidCount > 0) {
+                logger.warn("    : {}", invalidCount);
+            }
+            logger.debug("Parsed exclude numbers: {}", result);
+            return result;
+        }
+
+        private void completeElement() {
+            switch (state) {
+                case IN_FIRST:
+                case AFTER_FIRST:
+                    if (first <= Integer.MAX_VALUE) {
+                        result.add((int) first);
+                    } else {
+                        invalidCount++;
+                    }
+                    break;
+                case IN_SECOND:
+                case AFTER_SECOND:
+                    if (second <= Integer.MAX_VALUE && first <= second && second - first < MAX_RANGE_LENGTH) {
+                        result.addRange((int) first, (int) second);
+                    } else {
+                        invalidCount++;
+                    }
+                    break;
+                case EXPECT_SECOND:
+                case SKIP_INVALID:
+                    invalidCount++;
+                    break;
+                default:
+                    break;
+            }
+            state = EXPECT_NUMBER;
+        }
+
+        private static long appendDigit(long value, char c) {
+            //   Integer.MAX_VALUE   ,   
+            return value > Integer.MAX_VALUE ? value : value * 10 + (c - '0');
+        }
+
+        private static boolean isSeparator(char c) {
+            return c == ',' || c == ';' || c == '\n' || c == '\r';
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.random.service;
 
 import com.example.random.exception.LeetCodeExceptions.*;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
+import com.example.random.model.ProblemIndex;
 import com.example.random.model.ProblemInfo;
 import com.example.random.scraper.services.LeetCodeScrapingService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -24,7 +26,7 @@ public class LeetCodeService {
     /**
      *    
      */
-    public Set<Integer> getSolvedProblems(String username, boolean headless, Consumer<String> progressCallback)
+    public ExclusionSet getSolvedProblems(String username, boolean headless, Consumer<String> progressCallback)
             throws LeetCodeScrapingException, ValidationException {
 
         if (!isValidUsername(username)) {
@@ -36,7 +38,7 @@ public class LeetCodeService {
         scrapingService.setProgressCallback(progressCallback);
 
         try {
-            Set<Integer> solvedProblems = scrapingService.fetchSolvedProblems(username, headless);
+            ExclusionSet solvedProblems = scrapingService.fetchSolvedProblems(username, headless);
             log.info("  : {}", solvedProblems.size());
             return solvedProblems;
 
@@ -73,6 +75,20 @@ public class LeetCodeService {
         }
     }
 
+    /**
+     *    ,    
+     */
+    public ProblemCatalog getProblemCatalog(Map<String, ProblemInfo> problems) {
+        return scrapingService.getProblemCatalog(problems);
+    }
+
+    /**
+     *    ,    
+     */
+    public ProblemIndex getProblemIndex(Map<String, ProblemInfo> problems) {
+        return scrapingService.getProblemIndex(problems);
+    }
+
     /**
      *   username
      */
@@ -88,6 +104,13 @@ public class LeetCodeService {
         return stats.toString();
     }
 
+    /**
+     *      :   - 
+     */
+    public Map<String, Number> getCacheMetrics() {
+        return scrapingService.getCacheMetrics().toMap();
+    }
+
     /**
      *  
      */
@@ -0,0 +1,104 @@
+package com.example.random.service;
+
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemIndex;
+import com.example.random.service.RandomGeneratorService.ProblemStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ *   ,     .
+ *       O(log n),      - O(1),
+ *   - O(log n)    .
+ *  :      UI.
+ */
+public class ProblemStatisticsModel {
+    private static final Logger logger = LoggerFactory.getLogger(ProblemStatisticsModel.class);
+
+    private final ProblemIndex index;
+    private final ProblemIndex.Availability availability;
+    private final ExclusionSet exclusions = new ExclusionSet();
+    private final Set<ProblemDifficulty> difficulties = EnumSet.allOf(ProblemDifficulty.class);
+    private int min = 1;
+    private int max = Integer.MAX_VALUE;
+
+    public ProblemStatisticsModel(ProblemIndex index) {
+        this.index = index;
+        this.availability = index.availability(null);
+    }
+
+    public ProblemIndex getIndex() {
+        return index;
+    }
+
+    /**
+     *   
+     */
+    public boolean exclude(int number) {
+        if (!exclusions.add(number)) {
+            return false;
+        }
+        availability.exclude(number);
+        return true;
+    }
+
+    /**
+     *   
+     */
+    public boolean include(int number) {
+        if (!exclusions.remove(number)) {
+            return false;
+        }
+        availability.include(number);
+        return true;
+    }
+
+    /**
+     *     ,     
+     */
+    public void setExclusions(ExclusionSet newExclusions) {
+        ExclusionSet target = newExclusions == null ? new ExclusionSet() : newExclusions;
+        if (exclusions.equals(target)) {
+            return;
+        }
+
+        //     ,    
+        ExclusionSet removed = exclusions.andNot(target);
+        ExclusionSet added = target.andNot(exclusions);
+        removed.forEach(this::include);
+        added.forEach(this::exclude);
+
+        logger.debug("Statistics exclusions updated: +{} -{}", added.size(), removed.size());
+    }
+
+    public void setRange(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public void setDifficulties(Set<ProblemDifficulty> allowedDifficulties) {
+        difficulties.clear();
+        difficulties.addAll(allowedDifficulties);
+    }
+
+    /**
+     *     
+     */
+    public ProblemStatistics getStatistics() {
+        long easyCount = count(ProblemDifficulty.EASY);
+        long mediumCount = count(ProblemDifficulty.MEDIUM);
+        long hardCount = count(ProblemDifficulty.HARD);
+        return new ProblemStatistics(easyCount + mediumCount + hardCount, easyCount, mediumCount, hardCount);
+    }
+
+    private long count(ProblemDifficulty difficulty) {
+        if (min > max || !difficulties.contains(difficulty)) {
+            return 0;
+        }
+        return availability.count(difficulty, min, max);
+    }
+}
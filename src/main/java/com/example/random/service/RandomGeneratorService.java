@@ -1,45 +1,117 @@
 package com.example.random.service;
 
 import com.example.random.exception.LeetCodeExceptions.ValidationException;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
 import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemIndex;
 import com.example.random.model.ProblemInfo;
+import com.example.random.service.sampling.DistinctSampler;
+import com.example.random.service.sampling.RandomSource;
+import com.example.random.service.sampling.RandomStrategy;
+import com.example.random.service.sampling.RangeSampler;
+import com.example.random.service.sampling.SessionDeck;
+import com.example.random.service.sampling.WeightedProblemSampler;
 import lombok.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  *            
  */
 public class RandomGeneratorService {
     private static final Logger logger = LoggerFactory.getLogger(RandomGeneratorService.class);
+    private static final ProblemDifficulty[] DIFFICULTIES = ProblemDifficulty.values();
+
+    private static final int MAX_DECK_SIZE = SessionDeck.MAX_SIZE;
+
+    private volatile CatalogIndex catalogIndex;
+    private volatile CachedAvailability cachedAvailability;
+
+    private final RandomStrategy randomStrategy;
+
+    private final Object deckLock = new Object();
+    private SessionDeck deck;
+
+    public RandomGeneratorService() {
+        this(RandomStrategy.threadLocal());
+    }
+
+    public RandomGeneratorService(RandomStrategy randomStrategy) {
+        this.randomStrategy = Objects.requireNonNull(randomStrategy, "randomStrategy");
+    }
+
+    public RandomStrategy getRandomStrategy() {
+        return randomStrategy;
+    }
 
     /**
      *      ,   
      */
-    public Integer generateRandomNumber(int min, int max, Set<Integer> excludeSet) throws ValidationException {
+    public Integer generateRandomNumber(int min, int max, ExclusionSet excludeSet) throws ValidationException {
+        return generateRandomNumber(min, max, excludeSet, randomStrategy.newSource());
+    }
+
+    /**
+     *         seed,    
+     */
+    public Pick pickRandomNumber(int min, int max, ExclusionSet excludeSet) throws ValidationException {
+        RandomSource random = randomStrategy.newSource();
+        return new Pick(generateRandomNumber(min, max, excludeSet, random), random.seed());
+    }
+
+    /**
+     *      seed,   {@link Pick}
+     */
+    public Integer replayRandomNumber(long seed, int min, int max, ExclusionSet excludeSet) throws ValidationException {
+        return generateRandomNumber(min, max, excludeSet, RandomStrategy.replay(seed));
+    }
+
+    private Integer generateRandomNumber(int min, int max, ExclusionSet excludeSet,
+                                         RandomSource random) throws ValidationException {
         validateRange(min, max);
 
-        List<Integer> possibleNumbers = createPossibleNumbers(min, max, excludeSet);
+        int[] excluded = RangeSampler.sortedExclusions(excludeSet, min, max);
+        long available = RangeSampler.availableCount(min, max, excluded);
 
-        if (possibleNumbers.isEmpty()) {
+        if (available <= 0) {
             logger.warn("No possible numbers in range [{}, {}] excluding {}", min, max, excludeSet);
             return null;
         }
 
-        Collections.shuffle(possibleNumbers);
-        Integer result = possibleNumbers.get(0);
+        long rank = random.nextLong(available);
+        Integer result = RangeSampler.select(min, rank, excluded);
 
         logger.info("Generated random number: {} from range [{}, {}]", result, min, max);
+        random.seed().ifPresent(seed -> logger.info("Generation seed: {}", seed));
         return result;
     }
 
     /**
-     *          
+     *      ,   
      */
-    public Integer generateRandomProblemNumber(int min, int max, Set<Integer> excludeSet,
+    public Integer generateRandomNumber(int min, int max, Set<Integer> excludeSet) throws ValidationException {
+        return generateRandomNumber(min, max, ExclusionSet.of(excludeSet));
+    }
+
+    /**
+     *          
+     */
+    public Integer generateRandomProblemNumber(int min, int max, ExclusionSet excludeSet,
                                                Set<ProblemDifficulty> allowedDifficulties,
                                                Map<String, ProblemInfo> allProblems) throws ValidationException {
         validateRange(min, max);
@@ -49,87 +121,418 @@ public class RandomGeneratorService {
             throw new ValidationException("     ");
         }
 
-        //        
-        List<Integer> possibleNumbers = allProblems.values().stream()
-                .filter(problem -> problem.getNumber() >= min && problem.getNumber() <= max)
-                .filter(problem -> allowedDifficulties.contains(problem.getDifficulty()))
-                .filter(problem -> !excludeSet.contains(problem.getNumber()))
-                .map(ProblemInfo::getNumber)
-                .collect(Collectors.toList());
+        return generateRandomProblemNumber(min, max, excludeSet, allowedDifficulties, indexOf(allProblems));
+    }
+
+    /**
+     *          
+     */
+    public Integer generateRandomProblemNumber(int min, int max, Set<Integer> excludeSet,
+                                               Set<ProblemDifficulty> allowedDifficulties,
+                                               Map<String, ProblemInfo> allProblems) throws ValidationException {
+        return generateRandomProblemNumber(min, max, ExclusionSet.of(excludeSet), allowedDifficulties, allProblems);
+    }
+
+    /**
+     *          
+     */
+    public Integer generateRandomProblemNumber(int min, int max, ExclusionSet excludeSet,
+                                               Set<ProblemDifficulty> allowedDifficulties,
+                                               ProblemIndex index) throws ValidationException {
+        return generateRandomProblemNumber(min, max, excludeSet, allowedDifficulties, index,
+                randomStrategy.newSource());
+    }
+
+    /**
+     *          seed,    
+     */
+    public Pick pickRandomProblemNumber(int min, int max, ExclusionSet excludeSet,
+                                        Set<ProblemDifficulty> allowedDifficulties,
+                                        ProblemIndex index) throws ValidationException {
+        RandomSource random = randomStrategy.newSource();
+        return new Pick(generateRandomProblemNumber(min, max, excludeSet, allowedDifficulties, index, random),
+                random.seed());
+    }
+
+    /**
+     *     seed,   {@link Pick}
+     */
+    public Integer replayRandomProblemNumber(long seed, int min, int max, ExclusionSet excludeSet,
+                                             Set<ProblemDifficulty> allowedDifficulties,
+                                             ProblemIndex index) throws ValidationException {
+        return generateRandomProblemNumber(min, max, excludeSet, allowedDifficulties, index,
+                RandomStrategy.replay(seed));
+    }
+
+    private Integer generateRandomProblemNumber(int min, int max, ExclusionSet excludeSet,
+                                                Set<ProblemDifficulty> allowedDifficulties,
+                                                ProblemIndex index, RandomSource random) throws ValidationException {
+        validateRange(min, max);
+        validateDifficulties(allowedDifficulties);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+        int total = countAvailable(availability, allowedDifficulties, min, max);
 
-        if (possibleNumbers.isEmpty()) {
+        if (total == 0) {
             logger.warn("No possible problems in range [{}, {}] with difficulties {} excluding {}",
                     min, max, allowedDifficulties, excludeSet);
             return null;
         }
 
-        Collections.shuffle(possibleNumbers);
-        Integer result = possibleNumbers.get(0);
+        Integer result = selectAvailable(availability, allowedDifficulties, min, max, random.nextInt(total));
 
         logger.info("Generated random problem number: {} from range [{}, {}] with difficulties {}",
                 result, min, max, allowedDifficulties);
+        random.seed().ifPresent(seed -> logger.info("Generation seed: {}", seed));
+        return result;
+    }
+
+    /**
+     *  count       (     ).
+     *    ,  ,      
+     */
+    public int[] generateRandomProblemNumbers(int count, int min, int max, ExclusionSet excludeSet,
+                                              Set<ProblemDifficulty> allowedDifficulties,
+                                              ProblemIndex index) throws ValidationException {
+        validateCount(count);
+        validateRange(min, max);
+        validateDifficulties(allowedDifficulties);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+        int total = countAvailable(availability, allowedDifficulties, min, max);
+
+        if (total < count) {
+            logger.warn("Requested {} problems but only {} available in range [{}, {}] with difficulties {}",
+                    count, total, min, max, allowedDifficulties);
+        }
+
+        int[] result = DistinctSampler.floyd(total, Math.min(count, total), randomStrategy.newSource());
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectAvailable(availability, allowedDifficulties, min, max, result[i]);
+        }
+
+        logger.info("Generated {} random problem numbers from range [{}, {}] with difficulties {}",
+                result.length, min, max, allowedDifficulties);
         return result;
     }
 
+    /**
+     *      .
+     *       ,  ,   
+     */
+    public IntStream randomProblemNumberStream(int min, int max, ExclusionSet excludeSet,
+                                               Set<ProblemDifficulty> allowedDifficulties,
+                                               ProblemIndex index) throws ValidationException {
+        PrimitiveIterator.OfInt iterator = randomProblemNumberIterator(min, max, excludeSet, allowedDifficulties, index);
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    /**
+     *      
+     */
+    public PrimitiveIterator.OfInt randomProblemNumberIterator(int min, int max, ExclusionSet excludeSet,
+                                                               Set<ProblemDifficulty> allowedDifficulties,
+                                                               ProblemIndex index) throws ValidationException {
+        validateRange(min, max);
+        validateDifficulties(allowedDifficulties);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        Set<ProblemDifficulty> difficulties = EnumSet.copyOf(allowedDifficulties);
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+        PrimitiveIterator.OfInt ranks = DistinctSampler.lazyPermutation(
+                countAvailable(availability, difficulties, min, max), randomStrategy.newSource());
+
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return ranks.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return selectAvailable(availability, difficulties, min, max, ranks.nextInt());
+            }
+        };
+    }
+
+    /**
+     *    ,  "70% Medium, 20% Hard, 10% Easy".
+     *  ,        .
+     *  null,      
+     */
+    public WeightedProblemSampler createWeightedSampler(int min, int max, ExclusionSet excludeSet,
+                                                        Map<ProblemDifficulty, Double> weights,
+                                                        ProblemIndex index) throws ValidationException {
+        validateRange(min, max);
+        validateWeights(weights);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+
+        ProblemDifficulty[] difficulties = new ProblemDifficulty[DIFFICULTIES.length];
+        int[] counts = new int[DIFFICULTIES.length];
+        double[] columnWeights = new double[DIFFICULTIES.length];
+        int columns = 0;
+
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            double weight = weights.getOrDefault(difficulty, 0.0);
+            int count = availability.count(difficulty, min, max);
+            if (weight > 0 && count > 0) {
+                difficulties[columns] = difficulty;
+                counts[columns] = count;
+                columnWeights[columns] = weight;
+                columns++;
+            }
+        }
+
+        if (columns == 0) {
+            logger.warn("No possible problems in range [{}, {}] with weights {} excluding {}",
+                    min, max, weights, excludeSet);
+            return null;
+        }
+
+        logger.info("Created weighted sampler for range [{}, {}] with weights {}", min, max, weights);
+        return new WeightedProblemSampler(availability, min,
+                Arrays.copyOf(difficulties, columns), Arrays.copyOf(counts, columns),
+                Arrays.copyOf(columnWeights, columns), randomStrategy);
+    }
+
+    /**
+     *    ,  " 2 Easy, 3 Medium, 1 Hard",   .
+     *    ,        Easy, Medium, Hard
+     */
+    public int[] generateProblemsByQuota(int min, int max, ExclusionSet excludeSet,
+                                         Map<ProblemDifficulty, Integer> quotas,
+                                         ProblemIndex index) throws ValidationException {
+        validateRange(min, max);
+        validateQuotas(quotas);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+
+        int total = 0;
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            int quota = quotas.getOrDefault(difficulty, 0);
+            int available = availability.count(difficulty, min, max);
+            if (quota > available) {
+                throw new ValidationException(String.format(
+                        "   %s:  %d,  %d", difficulty, quota, available));
+            }
+            total += quota;
+        }
+
+        RandomSource random = randomStrategy.newSource();
+        int[] result = new int[total];
+        int filled = 0;
+
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            int quota = quotas.getOrDefault(difficulty, 0);
+            if (quota == 0) {
+                continue;
+            }
+
+            int[] ranks = DistinctSampler.floyd(availability.count(difficulty, min, max), quota, random);
+            for (int rank : ranks) {
+                result[filled++] = availability.select(difficulty, min, rank);
+            }
+        }
+
+        logger.info("Generated {} problems by quotas {} from range [{}, {}]", total, quotas, min, max);
+        return result;
+    }
+
+    /**
+     *          .
+     *        .
+     *  null,       
+     */
+    public Integer drawFromDeck(int min, int max, ExclusionSet excludeSet) throws ValidationException {
+        validateRange(min, max);
+
+        SessionDeck.Key key = deckKey(min, max, 0, 0, excludeSet);
+        synchronized (deckLock) {
+            if (deck == null || !deck.getKey().equals(key)) {
+                deck = new SessionDeck(key, rangeCandidates(min, max, excludeSet));
+                logger.info("Built new deck of {} numbers for {}", deck.size(), key);
+            }
+            return drawNextFromDeck();
+        }
+    }
+
+    /**
+     *          .
+     *      ,  ,   .
+     *  null,       
+     */
+    public Integer drawProblemFromDeck(int min, int max, ExclusionSet excludeSet,
+                                       Set<ProblemDifficulty> allowedDifficulties,
+                                       ProblemIndex index) throws ValidationException {
+        validateRange(min, max);
+        validateDifficulties(allowedDifficulties);
+
+        if (index == null || index.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        SessionDeck.Key key = deckKey(min, max, difficultyMask(allowedDifficulties), index.fingerprint(), excludeSet);
+        synchronized (deckLock) {
+            if (deck == null || !deck.getKey().equals(key)) {
+                deck = new SessionDeck(key, problemCandidates(min, max, excludeSet, allowedDifficulties, index));
+                logger.info("Built new deck of {} problems for {}", deck.size(), key);
+            }
+            return drawNextFromDeck();
+        }
+    }
+
+    /**
+     *       
+     */
+    public int getDeckRemaining() {
+        synchronized (deckLock) {
+            return deck == null ? 0 : deck.remaining();
+        }
+    }
+
+    /**
+     *  ,     
+     */
+    public void resetDeck() {
+        synchronized (deckLock) {
+            deck = null;
+        }
+        logger.info("Deck reset");
+    }
+
+    /**
+     *     ,     
+     */
+    public void saveDeck(Path file) throws IOException {
+        synchronized (deckLock) {
+            if (deck == null) {
+                Files.deleteIfExists(file);
+                return;
+            }
+
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                deck.writeTo(out);
+            }
+            logger.info("Saved deck state with {} remaining cards to {}", deck.remaining(), file);
+        }
+    }
+
+    /**
+     *    .  false,    
+     */
+    public boolean restoreDeck(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        SessionDeck restored;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            restored = SessionDeck.readFrom(in);
+        }
+
+        synchronized (deckLock) {
+            deck = restored;
+        }
+        logger.info("Restored deck state with {} remaining cards from {}", restored.remaining(), file);
+        return true;
+    }
+
     /**
      *        
      */
-    public ProblemStatistics getProblemStatistics(int min, int max, Set<Integer> excludeSet,
+    public ProblemStatistics getProblemStatistics(int min, int max, ExclusionSet excludeSet,
                                                   Set<ProblemDifficulty> allowedDifficulties,
                                                   Map<String, ProblemInfo> allProblems) {
         if (allProblems == null || allProblems.isEmpty()) {
             return new ProblemStatistics(0, 0, 0, 0);
         }
 
-        Map<ProblemDifficulty, Long> difficultyCounts = allProblems.values().stream()
-                .filter(problem -> problem.getNumber() >= min && problem.getNumber() <= max)
-                .filter(problem -> allowedDifficulties.contains(problem.getDifficulty()))
-                .filter(problem -> !excludeSet.contains(problem.getNumber()))
-                .collect(Collectors.groupingBy(ProblemInfo::getDifficulty, Collectors.counting()));
+        return getProblemStatistics(min, max, excludeSet, allowedDifficulties, indexOf(allProblems));
+    }
+
+    /**
+     *        
+     */
+    public ProblemStatistics getProblemStatistics(int min, int max, Set<Integer> excludeSet,
+                                                  Set<ProblemDifficulty> allowedDifficulties,
+                                                  Map<String, ProblemInfo> allProblems) {
+        return getProblemStatistics(min, max, ExclusionSet.of(excludeSet), allowedDifficulties, allProblems);
+    }
+
+    /**
+     *          
+     */
+    public ProblemStatistics getProblemStatistics(int min, int max, ExclusionSet excludeSet,
+                                                  Set<ProblemDifficulty> allowedDifficulties,
+                                                  ProblemIndex index) {
+        if (index == null || index.isEmpty()) {
+            return new ProblemStatistics(0, 0, 0, 0);
+        }
+
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
 
-        long easyCount = difficultyCounts.getOrDefault(ProblemDifficulty.EASY, 0L);
-        long mediumCount = difficultyCounts.getOrDefault(ProblemDifficulty.MEDIUM, 0L);
-        long hardCount = difficultyCounts.getOrDefault(ProblemDifficulty.HARD, 0L);
+        long easyCount = countAvailable(availability, allowedDifficulties, ProblemDifficulty.EASY, min, max);
+        long mediumCount = countAvailable(availability, allowedDifficulties, ProblemDifficulty.MEDIUM, min, max);
+        long hardCount = countAvailable(availability, allowedDifficulties, ProblemDifficulty.HARD, min, max);
         long totalCount = easyCount + mediumCount + hardCount;
 
         return new ProblemStatistics(totalCount, easyCount, mediumCount, hardCount);
     }
 
     /**
-     *    ,  
+     *       ("1-150, 152, 200-260")
      */
-    public Set<Integer> parseExcludeNumbers(String excludeText) {
-        if (excludeText == null || excludeText.trim().isEmpty()) {
-            return new HashSet<>();
-        }
+    public ExclusionSet parseExcludeNumbers(String excludeText) {
+        return ExclusionCodec.parse(excludeText);
+    }
 
-        String[] excludeStrings = excludeText.split(",");
-        Set<Integer> result = Arrays.stream(excludeStrings)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(this::parseInteger)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+    /**
+     *    ,        
+     */
+    public ExclusionSet parseExcludeNumbers(Path file) throws IOException {
+        ExclusionSet result = ExclusionCodec.parse(file);
+        logger.info("Imported {} exclude numbers from {}", result.size(), file);
+        return result;
+    }
 
-        logger.debug("Parsed exclude numbers: {}", result);
+    /**
+     *     ,      
+     */
+    public String formatExcludeNumbers(ExclusionSet numbers) {
+        String result = ExclusionCodec.format(numbers);
+        logger.debug("Formatted exclude numbers: {} characters", result.length());
         return result;
     }
 
     /**
-     *     ,  
+     *     ,  
      */
     public String formatExcludeNumbers(Set<Integer> numbers) {
-        if (numbers == null || numbers.isEmpty()) {
-            return "";
-        }
-
-        String result = numbers.stream()
-                .sorted()
-                .map(String::valueOf)
-                .collect(Collectors.joining(", "));
-
-        logger.debug("Formatted exclude numbers: {}", result);
-        return result;
+        return formatExcludeNumbers(ExclusionSet.of(numbers));
     }
 
     private void validateRange(int min, int max) throws ValidationException {
@@ -141,29 +544,230 @@ public class RandomGeneratorService {
         }
     }
 
+    private void validateCount(int count) throws ValidationException {
+        if (count < 1) {
+            throw new ValidationException("     0");
+        }
+    }
+
+    private void validateWeights(Map<ProblemDifficulty, Double> weights) throws ValidationException {
+        if (weights == null || weights.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        double sum = 0;
+        for (Double weight : weights.values()) {
+            if (weight == null || weight < 0 || weight.isNaN() || weight.isInfinite()) {
+                throw new ValidationException("      ");
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new ValidationException("         0");
+        }
+    }
+
+    private void validateQuotas(Map<ProblemDifficulty, Integer> quotas) throws ValidationException {
+        if (quotas == null || quotas.isEmpty()) {
+            throw new ValidationException("     ");
+        }
+
+        long sum = 0;
+        for (Integer quota : quotas.values()) {
+            if (quota == null || quota < 0) {
+                throw new ValidationException("      ");
+            }
+            sum += quota;
+        }
+        if (sum == 0) {
+            throw new ValidationException("         0");
+        }
+    }
+
     private void validateDifficulties(Set<ProblemDifficulty> difficulties) throws ValidationException {
         if (difficulties == null || difficulties.isEmpty()) {
             throw new ValidationException("       ");
         }
     }
 
-    private List<Integer> createPossibleNumbers(int min, int max, Set<Integer> excludeSet) {
-        List<Integer> possible = new ArrayList<>();
-        for (int i = min; i <= max; i++) {
-            if (!excludeSet.contains(i)) {
-                possible.add(i);
-            }
+    /**
+     *    ,      
+     */
+    private ProblemIndex indexOf(Map<String, ProblemInfo> allProblems) {
+        CatalogIndex cached = catalogIndex;
+        if (cached != null && cached.catalog == allProblems) {
+            return cached.index;
         }
-        return possible;
+
+        ProblemIndex index = ProblemIndex.build(ProblemCatalog.from(allProblems));
+        catalogIndex = new CatalogIndex(allProblems, index);
+        logger.debug("Built problem index for {} problems", index.size());
+        return index;
     }
 
-    private Integer parseInteger(String value) {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            logger.warn(" : {}", value);
+    /**
+     *      ,    
+     */
+    private ProblemIndex.Availability availabilityOf(ProblemIndex index, ExclusionSet excludeSet) {
+        ExclusionSet exclusions = excludeSet == null ? new ExclusionSet() : excludeSet;
+
+        CachedAvailability cached = cachedAvailability;
+        if (cached != null && cached.index == index && cached.excludeSet.equals(exclusions)) {
+            return cached.availability;
+        }
+
+        ProblemIndex.Availability availability = index.availability(exclusions);
+        cachedAvailability = new CachedAvailability(index, exclusions.copy(), availability);
+        return availability;
+    }
+
+    private Integer drawNextFromDeck() {
+        if (!deck.hasNext()) {
+            logger.warn("Deck is exhausted: all {} candidates were drawn", deck.size());
             return null;
         }
+
+        int result = deck.next(randomStrategy.newSource());
+        logger.info("Drew {} from deck, {} remaining", result, deck.remaining());
+        return result;
+    }
+
+    private SessionDeck.Key deckKey(int min, int max, int difficultyMask, long catalogFingerprint,
+                                    ExclusionSet excludeSet) {
+        ExclusionSet exclusions = excludeSet == null ? new ExclusionSet() : excludeSet;
+        return new SessionDeck.Key(min, max, difficultyMask, catalogFingerprint,
+                exclusions.size(), exclusionsDigest(exclusions));
+    }
+
+    /**
+     * SHA-256    :     
+     */
+    private static byte[] exclusionsDigest(ExclusionSet exclusions) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        ByteBuffer run = ByteBuffer.allocate(Integer.BYTES * 2);
+        exclusions.forEachRun((from, to) -> {
+            run.clear();
+            run.putInt(from).putInt(to);
+            digest.update(run.array());
+        });
+        return digest.digest();
+    }
+
+    private int difficultyMask(Set<ProblemDifficulty> allowedDifficulties) {
+        int mask = 0;
+        for (ProblemDifficulty difficulty : allowedDifficulties) {
+            mask |= 1 << difficulty.ordinal();
+        }
+        return mask;
+    }
+
+    private int[] rangeCandidates(int min, int max, ExclusionSet excludeSet) throws ValidationException {
+        int[] excluded = RangeSampler.sortedExclusions(excludeSet, min, max);
+        long available = RangeSampler.availableCount(min, max, excluded);
+        if (available > MAX_DECK_SIZE) {
+            throw new ValidationException("      :   "
+                    + MAX_DECK_SIZE + " ");
+        }
+
+        int[] cards = new int[(int) available];
+        int count = 0;
+        int next = 0;
+        for (long value = min; value <= max; value++) {
+            if (next < excluded.length && excluded[next] == value) {
+                next++;
+            } else {
+                cards[count++] = (int) value;
+            }
+        }
+        return cards;
+    }
+
+    private int[] problemCandidates(int min, int max, ExclusionSet excludeSet,
+                                    Set<ProblemDifficulty> allowedDifficulties, ProblemIndex index) {
+        ProblemIndex.Availability availability = availabilityOf(index, excludeSet);
+        int[] cards = new int[countAvailable(availability, allowedDifficulties, min, max)];
+        int[] count = new int[1];
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            if (allowedDifficulties.contains(difficulty)) {
+                availability.forEachAvailable(difficulty, min, max, number -> cards[count[0]++] = number);
+            }
+        }
+        return cards;
+    }
+
+    private int countAvailable(ProblemIndex.Availability availability, Set<ProblemDifficulty> allowedDifficulties,
+                               int min, int max) {
+        int total = 0;
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            total += countAvailable(availability, allowedDifficulties, difficulty, min, max);
+        }
+        return total;
+    }
+
+    private int countAvailable(ProblemIndex.Availability availability, Set<ProblemDifficulty> allowedDifficulties,
+                               ProblemDifficulty difficulty, int min, int max) {
+        return allowedDifficulties.contains(difficulty) ? availability.count(difficulty, min, max) : 0;
+    }
+
+    private int selectAvailable(ProblemIndex.Availability availability, Set<ProblemDifficulty> allowedDifficulties,
+                                int min, int max, int rank) {
+        int remaining = rank;
+        for (ProblemDifficulty difficulty : DIFFICULTIES) {
+            int count = countAvailable(availability, allowedDifficulties, difficulty, min, max);
+            if (remaining < count) {
+                return availability.select(difficulty, min, remaining);
+            }
+            remaining -= count;
+        }
+        throw new IllegalStateException("Rank " + rank + " is out of available range");
+    }
+
+    /**
+     * ,     
+     */
+    private static final class CatalogIndex {
+        final Map<String, ProblemInfo> catalog;
+        final ProblemIndex index;
+
+        CatalogIndex(Map<String, ProblemInfo> catalog, ProblemIndex index) {
+            this.catalog = catalog;
+            this.index = index;
+        }
+    }
+
+    /**
+     *  ,     
+     */
+    private static final class CachedAvailability {
+        final ProblemIndex index;
+        final ExclusionSet excludeSet;
+        final ProblemIndex.Availability availability;
+
+        CachedAvailability(ProblemIndex index, ExclusionSet excludeSet, ProblemIndex.Availability availability) {
+            this.index = index;
+            this.excludeSet = excludeSet;
+            this.availability = availability;
+        }
+    }
+
+    /**
+     *     seed    
+     */
+    @Value
+    public static class Pick {
+        Integer number;
+        OptionalLong seed;
+
+        @Override
+        public String toString() {
+            return seed.isPresent() ? number + " (seed " + seed.getAsLong() + ")" : String.valueOf(number);
+        }
     }
 
     /**
@@ -0,0 +1,123 @@
+package com.example.random.service.sampling;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ *      [0, n)     
+ */
+public final class DistinctSampler {
+
+    private DistinctSampler() {
+    }
+
+    /**
+     *  k    [0, n)    O(k).
+     *  ,      .
+     */
+    public static int[] floyd(int n, int k, RandomSource random) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("Cannot pick " + k + " distinct values from " + n);
+        }
+
+        int[] result = new int[k];
+        int capacity = 2;
+        while (capacity < k * 2) {
+            capacity <<= 1;
+        }
+        //  ,     + 1, 0 -  
+        int[] chosen = new int[capacity];
+
+        int count = 0;
+        for (int j = n - k; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!insert(chosen, candidate)) {
+                candidate = j;
+                insert(chosen, candidate);
+            }
+            result[count++] = candidate;
+        }
+
+        shuffle(result, random);
+        return result;
+    }
+
+    /**
+     *    [0, n):      O(1)
+     *   -,    
+     */
+    public static PrimitiveIterator.OfInt lazyPermutation(int n, RandomSource random) {
+        return new SparseShuffle(n, random);
+    }
+
+    private static boolean insert(int[] table, int value) {
+        int mask = table.length - 1;
+        int slot = mix(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value + 1) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value + 1;
+        return true;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void shuffle(int[] values, RandomSource random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    /**
+     * -    ,       
+     */
+    private static final class SparseShuffle implements PrimitiveIterator.OfInt {
+        private final int size;
+        private final RandomSource random;
+        private final Map<Integer, Integer> displaced = new HashMap<>();
+        private int position;
+
+        SparseShuffle(int size, RandomSource random) {
+            this.size = size;
+            this.random = random;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+
+            int swapWith = position + random.nextInt(size - position);
+            int current = valueAt(position);
+            int picked = valueAt(swapWith);
+            if (swapWith != position) {
+                displaced.put(swapWith, current);
+            }
+            displaced.remove(position);
+            position++;
+            return picked;
+        }
+
+        private int valueAt(int index) {
+            Integer value = displaced.get(index);
+            return value != null ? value : index;
+        }
+    }
+}
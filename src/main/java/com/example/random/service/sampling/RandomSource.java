@@ -0,0 +1,29 @@
+package com.example.random.service.sampling;
+
+import java.util.OptionalLong;
+
+/**
+ *       
+ */
+public interface RandomSource {
+
+    /**
+     *    [0, bound)
+     */
+    int nextInt(int bound);
+
+    /**
+     *    [0, bound)
+     */
+    long nextLong(long bound);
+
+    /**
+     *    [0, 1)
+     */
+    double nextDouble();
+
+    /**
+     * Seed,     ,    
+     */
+    OptionalLong seed();
+}
@@ -0,0 +1,187 @@
+package com.example.random.service.sampling;
+
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *      .
+ *      :     .
+ * <ul>
+ *     <li>{@link #threadLocal()} - ThreadLocalRandom,   </li>
+ *     <li>{@link #splittable(long)} - SplittableRandom,     </li>
+ *     <li>{@link #seeded(long)} -     seed,   </li>
+ * </ul>
+ */
+public abstract class RandomStrategy {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final RandomStrategy THREAD_LOCAL = new ThreadLocalStrategy();
+
+    /**
+     *         
+     */
+    public abstract RandomSource newSource();
+
+    /**
+     *       
+     */
+    public RandomStrategy split() {
+        return this;
+    }
+
+    public static RandomStrategy threadLocal() {
+        return THREAD_LOCAL;
+    }
+
+    public static RandomStrategy splittable(long seed) {
+        return new SplittableStrategy(new SplittableRandom(seed));
+    }
+
+    public static RandomStrategy seeded(long masterSeed) {
+        return new SeededStrategy(masterSeed);
+    }
+
+    /**
+     * ,     seed
+     */
+    public static RandomSource replay(long seed) {
+        return new SplittableSource(new SplittableRandom(seed), OptionalLong.of(seed));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * ThreadLocalRandom  ,     
+     */
+    private static final class ThreadLocalStrategy extends RandomStrategy implements RandomSource {
+
+        @Override
+        public RandomSource newSource() {
+            return this;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return ThreadLocalRandom.current().nextLong(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+
+        @Override
+        public OptionalLong seed() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public String toString() {
+            return "ThreadLocalRandom";
+        }
+    }
+
+    /**
+     *     SplittableRandom,   .
+     *       .
+     */
+    private static final class SplittableStrategy extends RandomStrategy {
+        private final SplittableRandom root;
+        private final ThreadLocal<RandomSource> perThread;
+
+        SplittableStrategy(SplittableRandom root) {
+            this.root = root;
+            this.perThread = ThreadLocal.withInitial(() -> new SplittableSource(splitRoot(), OptionalLong.empty()));
+        }
+
+        @Override
+        public RandomSource newSource() {
+            return perThread.get();
+        }
+
+        @Override
+        public RandomStrategy split() {
+            return new SplittableStrategy(splitRoot());
+        }
+
+        private SplittableRandom splitRoot() {
+            synchronized (root) {
+                return root.split();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "SplittableRandom";
+        }
+    }
+
+    /**
+     * Seed     seed   ,
+     *       seed
+     */
+    private static final class SeededStrategy extends RandomStrategy {
+        private final long masterSeed;
+        private final AtomicLong counter = new AtomicLong();
+
+        SeededStrategy(long masterSeed) {
+            this.masterSeed = masterSeed;
+        }
+
+        @Override
+        public RandomSource newSource() {
+            long seed = mix64(masterSeed + counter.getAndIncrement() * GOLDEN_GAMMA);
+            return replay(seed);
+        }
+
+        @Override
+        public RandomStrategy split() {
+            return new SeededStrategy(mix64(masterSeed + counter.getAndIncrement() * GOLDEN_GAMMA));
+        }
+
+        @Override
+        public String toString() {
+            return "Seeded[" + masterSeed + "]";
+        }
+    }
+
+    private static final class SplittableSource implements RandomSource {
+        private final SplittableRandom random;
+        private final OptionalLong seed;
+
+        SplittableSource(SplittableRandom random, OptionalLong seed) {
+            this.random = random;
+            this.seed = seed;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return random.nextLong(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public OptionalLong seed() {
+            return seed;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.random.service.sampling;
+
+import com.example.random.model.ExclusionSet;
+
+/**
+ *     [min, max]     .
+ *     ,   
+ *  O(k)    O(log k)   ,  k -    .
+ */
+public final class RangeSampler {
+    private static final int[] EMPTY = new int[0];
+
+    private RangeSampler() {
+    }
+
+    /**
+     *    ,    [min, max]
+     */
+    public static int[] sortedExclusions(ExclusionSet excludeSet, int min, int max) {
+        if (excludeSet == null || excludeSet.isEmpty()) {
+            return EMPTY;
+        }
+
+        return excludeSet.toArray(min, max);
+    }
+
+    /**
+     *        
+     */
+    public static long availableCount(int min, int max, int[] sortedExcluded) {
+        return (long) max - min + 1 - sortedExcluded.length;
+    }
+
+    /**
+     *       rank ( )  ,   min
+     */
+    public static int select(int min, long rank, int[] sortedExcluded) {
+        //   sortedExcluded[i]   sortedExcluded[i] - min - i  
+        int low = 0;
+        int high = sortedExcluded.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((long) sortedExcluded[mid] - min - mid <= rank) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return (int) (min + rank + low);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.random.service.sampling;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ *      .
+ *        :   -
+ *      ,    O(1).
+ *            .
+ */
+public final class SessionDeck {
+    /**
+     *     
+     */
+    public static final int MAX_SIZE = 1 << 22;
+
+    private static final int MAGIC = 0x4445434B;
+    private static final int FORMAT_VERSION = 2;
+
+    private final Key key;
+    private final int[] cards;
+    private int position;
+
+    public SessionDeck(Key key, int[] cards) {
+        this(key, cards, 0);
+    }
+
+    private SessionDeck(Key key, int[] cards, int position) {
+        this.key = key;
+        this.cards = cards;
+        this.position = position;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public int remaining() {
+        return cards.length - position;
+    }
+
+    public boolean hasNext() {
+        return position < cards.length;
+    }
+
+    /**
+     *   ,    -
+     */
+    public int next(RandomSource random) {
+        if (position >= cards.length) {
+            throw new NoSuchElementException("Deck is exhausted");
+        }
+
+        int swapWith = position + random.nextInt(cards.length - position);
+        int card = cards[swapWith];
+        cards[swapWith] = cards[position];
+        cards[position] = card;
+        position++;
+        return card;
+    }
+
+    /**
+     *   : ,   
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        key.writeTo(out);
+        out.writeInt(cards.length);
+        out.writeInt(position);
+        for (int card : cards) {
+            out.writeInt(card);
+        }
+    }
+
+    /**
+     *  ,   writeTo
+     */
+    public static SessionDeck readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a deck state file");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported deck state version: " + version);
+        }
+
+        Key key = Key.readFrom(in);
+        int length = in.readInt();
+        int position = in.readInt();
+        if (length < 0 || length > MAX_SIZE || position < 0 || position > length) {
+            throw new IOException("Corrupted deck state: length=" + length + ", position=" + position);
+        }
+
+        int[] cards = new int[length];
+        for (int i = 0; i < length; i++) {
+            cards[i] = in.readInt();
+        }
+        return new SessionDeck(key, cards, position);
+    }
+
+    /**
+     *  ,    
+     */
+    public static final class Key {
+        public static final int DIGEST_LENGTH = 32;
+
+        private final int min;
+        private final int max;
+        private final int difficultyMask;
+        private final long catalogFingerprint;
+        private final int exclusionsSize;
+        private final byte[] exclusionsDigest;
+
+        /**
+         * exclusionsDigest - SHA-256  :       
+         */
+        public Key(int min, int max, int difficultyMask, long catalogFingerprint,
+                   int exclusionsSize, byte[] exclusionsDigest) {
+            if (exclusionsDigest.length != DIGEST_LENGTH) {
+                throw new IllegalArgumentException("Exclusions digest must be " + DIGEST_LENGTH + " bytes");
+            }
+            this.min = min;
+            this.max = max;
+            this.difficultyMask = difficultyMask;
+            this.catalogFingerprint = catalogFingerprint;
+            this.exclusionsSize = exclusionsSize;
+            this.exclusionsDigest = exclusionsDigest.clone();
+        }
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(min);
+            out.writeInt(max);
+            out.writeInt(difficultyMask);
+            out.writeLong(catalogFingerprint);
+            out.writeInt(exclusionsSize);
+            out.write(exclusionsDigest);
+        }
+
+        static Key readFrom(DataInput in) throws IOException {
+            int min = in.readInt();
+            int max = in.readInt();
+            int difficultyMask = in.readInt();
+            long catalogFingerprint = in.readLong();
+            int exclusionsSize = in.readInt();
+            byte[] exclusionsDigest = new byte[DIGEST_LENGTH];
+            in.readFully(exclusionsDigest);
+            return new Key(min, max, difficultyMask, catalogFingerprint, exclusionsSize, exclusionsDigest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return min == other.min && max == other.max && difficultyMask == other.difficultyMask
+                    && catalogFingerprint == other.catalogFingerprint
+                    && exclusionsSize == other.exclusionsSize
+                    && Arrays.equals(exclusionsDigest, other.exclusionsDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 31 * min + max;
+            result = 31 * result + difficultyMask;
+            result = 31 * result + Long.hashCode(catalogFingerprint);
+            result = 31 * result + exclusionsSize;
+            return 31 * result + Arrays.hashCode(exclusionsDigest);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Deck[range=[%d, %d], difficulties=%d, exclusions=%d]",
+                    min, max, difficultyMask, exclusionsSize);
+        }
+    }
+}
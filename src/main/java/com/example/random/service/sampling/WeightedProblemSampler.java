@@ -0,0 +1,59 @@
+package com.example.random.service.sampling;
+
+import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemIndex;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ *      .
+ *       O(1),    -   O(log n).
+ *           .
+ */
+public final class WeightedProblemSampler {
+    private final ProblemIndex.Availability availability;
+    private final int min;
+    private final ProblemDifficulty[] difficulties;
+    private final int[] counts;
+    private final AliasTable table;
+    private final RandomStrategy strategy;
+
+    public WeightedProblemSampler(ProblemIndex.Availability availability, int min,
+                                  ProblemDifficulty[] difficulties, int[] counts, double[] weights,
+                                  RandomStrategy strategy) {
+        this.availability = availability;
+        this.min = min;
+        this.difficulties = difficulties.clone();
+        this.counts = counts.clone();
+        this.table = new AliasTable(weights);
+        this.strategy = strategy;
+    }
+
+    /**
+     *    
+     */
+    public int next() {
+        return next(strategy.newSource());
+    }
+
+    /**
+     *    ,     
+     */
+    public int next(RandomSource random) {
+        int column = table.sample(random);
+        return availability.select(difficulties[column], min, random.nextInt(counts[column]));
+    }
+
+    /**
+     *      ,   
+     */
+    public Map<ProblemDifficulty, Integer> getAvailableCounts() {
+        Map<ProblemDifficulty, Integer> result = new EnumMap<>(ProblemDifficulty.class);
+        for (int i = 0; i < difficulties.length; i++) {
+            result.put(difficulties[i], counts[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -1,17 +1,29 @@
 package com.example.random.ui;
 
+import com.example.random.config.ScrapingConfig;
 import com.example.random.exception.LeetCodeExceptions.*;
+import com.example.random.model.ExclusionSet;
+import com.example.random.model.ProblemCatalog;
 import com.example.random.model.ProblemDifficulty;
+import com.example.random.model.ProblemIndex;
 import com.example.random.model.ProblemInfo;
 import com.example.random.service.LeetCodeService;
+import com.example.random.service.ProblemStatisticsModel;
 import com.example.random.service.RandomGeneratorService;
 import com.example.random.service.RandomGeneratorService.ProblemStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.List;
 
@@ -26,6 +38,8 @@ public class MainWindow {
     private static final String FETCH_BUTTON_LOADING_TEXT = " ...";
     private static final String LOAD_PROBLEMS_BUTTON_TEXT = "  ";
     private static final String LOAD_PROBLEMS_LOADING_TEXT = " ...";
+    private static final Path DECK_STATE_FILE = Paths.get(ScrapingConfig.APP_DATA_DIR, "deck.bin");
+    private static final int STATISTICS_DEBOUNCE_MS = 250;
 
     private final RandomGeneratorService randomService;
     private final LeetCodeService leetCodeService;
@@ -41,8 +55,11 @@ public class MainWindow {
     private JButton fetchButton;
     private JButton loadProblemsButton;
     private JButton generateButton;
+    private JButton importExcludeButton;
+    private JCheckBox deckCheckBox;
     private JTextArea progressArea;
     private JScrollPane progressScrollPane;
+    private javax.swing.Timer statisticsTimer;
 
     //     
     private JCheckBox easyCheckBox;
@@ -57,6 +74,9 @@ public class MainWindow {
 
     //  
     private Map<String, ProblemInfo> allProblemsInfo = new HashMap<>();
+    private ProblemCatalog problemCatalog;
+    private ProblemIndex problemIndex;
+    private ProblemStatisticsModel statisticsModel;
     private boolean problemsLoaded = false;
 
     public MainWindow(RandomGeneratorService randomService, LeetCodeService leetCodeService) {
@@ -65,6 +85,7 @@ public class MainWindow {
         initializeComponents();
         setupEventHandlers();
         updateUIState(); //   UI
+        restoreDeckState();
     }
 
     public void show() {
@@ -112,7 +133,7 @@ public class MainWindow {
         mainParams.add(minField);
         mainParams.add(new JLabel(" :"));
         mainParams.add(maxField);
-        mainParams.add(new JLabel(" ( ):"));
+        mainParams.add(new JLabel(" ( ,  1-150):"));
         mainParams.add(excludeField);
         mainParams.add(new JLabel(""));
         mainParams.add(resultLabel);
@@ -217,19 +238,27 @@ public class MainWindow {
         fetchButton = new JButton(FETCH_BUTTON_DEFAULT_TEXT);
         loadProblemsButton = new JButton(LOAD_PROBLEMS_BUTTON_TEXT);
         generateButton = new JButton("");
+        importExcludeButton = new JButton(" ...");
+        deckCheckBox = new JCheckBox(" ", false);
 
         fetchButton.setPreferredSize(new Dimension(280, 35));
         loadProblemsButton.setPreferredSize(new Dimension(180, 35));
         generateButton.setPreferredSize(new Dimension(150, 35));
+        importExcludeButton.setPreferredSize(new Dimension(180, 35));
 
         //  
         fetchButton.setToolTipText("         ");
         loadProblemsButton.setToolTipText("         ");
         generateButton.setToolTipText("      ");
+        importExcludeButton.setToolTipText("        ");
+        deckCheckBox.setToolTipText("<html>         <br/>" +
+                "    ,   </html>");
 
         panel.add(fetchButton);
         panel.add(loadProblemsButton);
+        panel.add(deckCheckBox);
         panel.add(generateButton);
+        panel.add(importExcludeButton);
 
         return panel;
     }
@@ -260,6 +289,46 @@ public class MainWindow {
         fetchButton.addActionListener(this::onFetchButtonClick);
         loadProblemsButton.addActionListener(this::onLoadProblemsButtonClick);
         generateButton.addActionListener(this::onGenerateButtonClick);
+        importExcludeButton.addActionListener(this::onImportExcludeButtonClick);
+
+        //         ,
+        //          
+        statisticsTimer = new javax.swing.Timer(STATISTICS_DEBOUNCE_MS, e -> updateStatistics());
+        statisticsTimer.setRepeats(false);
+        DocumentListener statisticsUpdater = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                statisticsTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                statisticsTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                statisticsTimer.restart();
+            }
+        };
+        minField.getDocument().addDocumentListener(statisticsUpdater);
+        maxField.getDocument().addDocumentListener(statisticsUpdater);
+        excludeField.getDocument().addDocumentListener(statisticsUpdater);
+
+        deckCheckBox.addActionListener(e -> {
+            if (!deckCheckBox.isSelected()) {
+                randomService.resetDeck();
+                addProgressStep("   ,  ");
+            }
+        });
+
+        //    ,     
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveDeckState();
+            }
+        });
 
         //    headless 
         headlessCheckBox.addActionListener(e -> {
@@ -334,16 +403,16 @@ public class MainWindow {
 
         setFetchButtonLoading(true);
 
-        SwingWorker<Set<Integer>, Void> worker = new SwingWorker<Set<Integer>, Void>() {
+        SwingWorker<ExclusionSet, Void> worker = new SwingWorker<ExclusionSet, Void>() {
             @Override
-            protected Set<Integer> doInBackground() throws Exception {
+            protected ExclusionSet doInBackground() throws Exception {
                 return leetCodeService.getSolvedProblems(username, isHeadless, MainWindow.this::addProgressStep);
             }
 
             @Override
             protected void done() {
                 try {
-                    Set<Integer> solvedProblems = get();
+                    ExclusionSet solvedProblems = get();
                     handleFetchResult(solvedProblems);
                 } catch (Exception ex) {
                     handleFetchError(ex);
@@ -400,14 +469,17 @@ public class MainWindow {
             addProgressStep(": [" + min + ", " + max + "]");
 
             addProgressStep("  ...");
-            Set<Integer> excludeSet = randomService.parseExcludeNumbers(excludeField.getText());
+            ExclusionSet excludeSet = randomService.parseExcludeNumbers(excludeField.getText());
             addProgressStep(" : " + excludeSet.size());
 
             Integer result;
+            boolean deckMode = deckCheckBox.isSelected();
 
             if (!problemsLoaded) {
                 addProgressStep("   (   )...");
-                result = randomService.generateRandomNumber(min, max, excludeSet);
+                result = deckMode
+                        ? randomService.drawFromDeck(min, max, excludeSet)
+                        : randomService.generateRandomNumber(min, max, excludeSet);
             } else {
                 //     
                 Set<ProblemDifficulty> selectedDifficulties = getSelectedDifficulties();
@@ -420,7 +492,9 @@ public class MainWindow {
 
                 addProgressStep("  : " + selectedDifficulties);
                 addProgressStep("     ...");
-                result = randomService.generateRandomProblemNumber(min, max, excludeSet, selectedDifficulties, allProblemsInfo);
+                result = deckMode
+                        ? randomService.drawProblemFromDeck(min, max, excludeSet, selectedDifficulties, problemIndex)
+                        : randomService.generateRandomProblemNumber(min, max, excludeSet, selectedDifficulties, problemIndex);
 
                 //     
                 if (result != null) {
@@ -429,9 +503,14 @@ public class MainWindow {
             }
 
             if (result == null) {
-                addProgressStep("       ");
+                addProgressStep(deckMode
+                        ? " :     .   ' '  "
+                        : "       ");
                 resultLabel.setText("  .");
             } else {
+                if (deckMode) {
+                    addProgressStep("  : " + randomService.getDeckRemaining());
+                }
                 addProgressStep("  : " + result);
                 resultLabel.setText(": " + result);
                 resultLabel.setForeground(new Color(0, 150, 0)); //    
@@ -453,7 +532,69 @@ public class MainWindow {
         }
     }
 
-    private void handleFetchResult(Set<Integer> solvedProblems) {
+    private void onImportExcludeButtonClick(ActionEvent e) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("   ");
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        Path file = chooser.getSelectedFile().toPath();
+        String currentText = excludeField.getText();
+        addProgressStep("   : " + file);
+        importExcludeButton.setEnabled(false);
+
+        SwingWorker<ExclusionSet, Void> worker = new SwingWorker<ExclusionSet, Void>() {
+            @Override
+            protected ExclusionSet doInBackground() throws Exception {
+                ExclusionSet imported = randomService.parseExcludeNumbers(file);
+                return imported.union(randomService.parseExcludeNumbers(currentText));
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    ExclusionSet merged = get();
+                    excludeField.setText(randomService.formatExcludeNumbers(merged));
+                    addProgressStep("   : " + merged.size());
+                    updateStatistics();
+                } catch (Exception ex) {
+                    addProgressStep("   : " + ex.getMessage());
+                    showErrorMessage("   : " + ex.getMessage());
+                    logger.error("Error importing exclude numbers", ex);
+                } finally {
+                    importExcludeButton.setEnabled(true);
+                }
+            }
+        };
+
+        worker.execute();
+    }
+
+    private void restoreDeckState() {
+        try {
+            if (randomService.restoreDeck(DECK_STATE_FILE)) {
+                deckCheckBox.setSelected(true);
+                addProgressStep("   , : " + randomService.getDeckRemaining());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to restore deck state from {}", DECK_STATE_FILE, e);
+        }
+    }
+
+    private void saveDeckState() {
+        try {
+            if (deckCheckBox.isSelected()) {
+                randomService.saveDeck(DECK_STATE_FILE);
+            } else {
+                Files.deleteIfExists(DECK_STATE_FILE);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to save deck state to {}", DECK_STATE_FILE, e);
+        }
+    }
+
+    private void handleFetchResult(ExclusionSet solvedProblems) {
         if (solvedProblems != null && !solvedProblems.isEmpty()) {
             addProgressStep("  " + solvedProblems.size() + "  ");
             addProgressStep("  ...");
@@ -481,6 +622,9 @@ public class MainWindow {
     private void handleLoadProblemsResult(Map<String, ProblemInfo> problems) {
         if (problems != null && !problems.isEmpty()) {
             allProblemsInfo = problems;
+            problemCatalog = leetCodeService.getProblemCatalog(problems);
+            problemIndex = leetCodeService.getProblemIndex(problems);
+            statisticsModel = new ProblemStatisticsModel(problemIndex);
             problemsLoaded = true;
 
             addProgressStep("  " + problems.size() + " ");
@@ -525,7 +669,7 @@ public class MainWindow {
     }
 
     private void updateStatistics() {
-        if (!problemsLoaded || allProblemsInfo.isEmpty()) {
+        if (!problemsLoaded || statisticsModel == null) {
             statisticsLabel.setText(":     ");
             return;
         }
@@ -533,7 +677,7 @@ public class MainWindow {
         try {
             int min = parseInteger(minField.getText().trim(), " ");
             int max = parseInteger(maxField.getText().trim(), " ");
-            Set<Integer> excludeSet = randomService.parseExcludeNumbers(excludeField.getText());
+            ExclusionSet excludeSet = randomService.parseExcludeNumbers(excludeField.getText());
             Set<ProblemDifficulty> selectedDifficulties = getSelectedDifficulties();
 
             if (selectedDifficulties.isEmpty()) {
@@ -542,7 +686,10 @@ public class MainWindow {
                 return;
             }
 
-            ProblemStatistics stats = randomService.getProblemStatistics(min, max, excludeSet, selectedDifficulties, allProblemsInfo);
+            statisticsModel.setRange(min, max);
+            statisticsModel.setDifficulties(selectedDifficulties);
+            statisticsModel.setExclusions(excludeSet);
+            ProblemStatistics stats = statisticsModel.getStatistics();
 
             String statsText = String.format(" : %d (Easy: %d, Medium: %d, Hard: %d)",
                     stats.getTotal(), stats.getEasy(), stats.getMedium(), stats.getHard());
@@ -559,17 +706,14 @@ public class MainWindow {
      *       
      */
     private void showProblemInfo(Integer problemNumber) {
-        if (problemNumber == null || allProblemsInfo.isEmpty()) {
+        if (problemNumber == null || problemCatalog == null) {
             return;
         }
 
-        //      
-        Optional<ProblemInfo> problemInfo = allProblemsInfo.values().stream()
-                .filter(p -> Objects.equals(p.getNumber(), problemNumber))
-                .findFirst();
+        //        ,   
+        ProblemInfo info = problemCatalog.findByNumber(problemNumber);
 
-        if (problemInfo.isPresent()) {
-            ProblemInfo info = problemInfo.get();
+        if (info != null) {
             addProgressStep(String.format(": #%d - %s [%s]",
                     info.getNumber(), info.getTitle(), info.getDifficulty()));
         } else {
@@ -0,0 +1,226 @@
+package com.example.random.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExclusionSetTest {
+
+    @Test
+    void andNotOfArrayContainers() {
+        ExclusionSet left = ExclusionSet.of(1, 2, 3, 70000, 70001);
+        ExclusionSet right = ExclusionSet.of(2, 70001, 90000);
+
+        assertArrayEquals(new int[]{1, 3, 70000}, left.andNot(right).toArray());
+        assertArrayEquals(new int[]{90000}, right.andNot(left).toArray());
+    }
+
+    @Test
+    void andNotOfBitmapContainers() {
+        ExclusionSet dense = new ExclusionSet();
+        dense.addRange(0, 20000);
+        ExclusionSet denser = new ExclusionSet();
+        denser.addRange(10, 20005);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, dense.andNot(denser).toArray());
+        assertArrayEquals(new int[]{20001, 20002, 20003, 20004, 20005}, denser.andNot(dense).toArray());
+    }
+
+    @Test
+    void andNotOfBitmapAndArray() {
+        ExclusionSet dense = new ExclusionSet();
+        dense.addRange(1, 5000);
+        ExclusionSet sparse = ExclusionSet.of(1, 2500, 5000);
+
+        ExclusionSet difference = dense.andNot(sparse);
+        assertEquals(4997, difference.size());
+        assertEquals(dense, difference.union(sparse));
+        assertEquals(0, sparse.andNot(dense).size());
+    }
+
+    @Test
+    void arrayContainerLimitBoundary() {
+        ExclusionSet numbers = new ExclusionSet();
+        for (int value = 0; value < 8192; value += 2) {
+            assertTrue(numbers.add(value));
+        }
+        assertEquals(4096, numbers.size());
+        assertFalse(numbers.add(0));
+
+        assertTrue(numbers.add(1));
+        assertEquals(4097, numbers.size());
+        assertTrue(numbers.contains(1));
+        assertEquals(3, numbers.rank(2));
+        assertEquals(2050, numbers.countInRange(0, 4096));
+
+        assertTrue(numbers.remove(1));
+        assertFalse(numbers.contains(1));
+        assertEquals(4096, numbers.size());
+        assertEquals(2, numbers.rank(2));
+        assertEquals(ExclusionSet.of(evenNumbers(8192)), numbers);
+    }
+
+    @Test
+    void addAndRemoveAroundArrayLimitKeepsContents() {
+        ExclusionSet numbers = new ExclusionSet();
+        NavigableSet<Integer> expected = new TreeSet<>();
+        for (int value = 0; value < 4096; value++) {
+            numbers.add(value * 3);
+            expected.add(value * 3);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            int value = 1 + 3 * (i % 50);
+            assertEquals(expected.add(value), numbers.add(value));
+            int removed = 3 * (i % 4096);
+            assertEquals(expected.remove(removed), numbers.remove(removed));
+            assertTrue(expected.remove(value) && numbers.remove(value));
+            assertEquals(expected.add(removed), numbers.add(removed));
+        }
+
+        assertMatches(expected, numbers);
+    }
+
+    @Test
+    void shrinkingBitmapStaysCorrect() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(0, 9999);
+        NavigableSet<Integer> expected = new TreeSet<>();
+        for (int value = 0; value < 10000; value++) {
+            expected.add(value);
+        }
+
+        Random random = new Random(7);
+        while (expected.size() > 100) {
+            int value = random.nextInt(10000);
+            assertEquals(expected.remove(value), numbers.remove(value));
+        }
+
+        assertMatches(expected, numbers);
+    }
+
+    @Test
+    void containerKeySplitAt65536() {
+        ExclusionSet numbers = ExclusionSet.of(65534, 65535, 65536, 65537, 131072);
+
+        assertEquals(5, numbers.size());
+        assertTrue(numbers.contains(65535));
+        assertTrue(numbers.contains(65536));
+        assertFalse(numbers.contains(131071));
+        assertEquals(2, numbers.rank(65535));
+        assertEquals(3, numbers.rank(65536));
+        assertEquals(2, numbers.countInRange(65535, 65536));
+        assertEquals(4, numbers.countInRange(0, 131071));
+        assertArrayEquals(new int[]{65535, 65536, 65537}, numbers.toArray(65535, 100000));
+
+        assertTrue(numbers.remove(65535));
+        assertEquals(2, numbers.rank(65536));
+        assertArrayEquals(new int[]{65534, 65536, 65537, 131072}, numbers.toArray());
+    }
+
+    @Test
+    void addRangeAcrossContainers() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(60000, 140000);
+
+        assertEquals(80001, numbers.size());
+        assertEquals(80001, numbers.countInRange(0, Integer.MAX_VALUE));
+        assertEquals(5537, numbers.rank(65536));
+        assertEquals(2, numbers.countInRange(65535, 65536));
+        assertFalse(numbers.contains(59999));
+        assertTrue(numbers.contains(131072));
+        assertFalse(numbers.contains(140001));
+    }
+
+    @Test
+    void negativeAndPositiveNumbersAreOrdered() {
+        ExclusionSet numbers = ExclusionSet.of(5, -1, 0, -65537, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -65537, -1, 0, 5, Integer.MAX_VALUE}, numbers.toArray());
+        assertEquals(3, numbers.countInRange(-65537, 0));
+    }
+
+    @Test
+    void runsContinueAcrossContainers() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(65530, 65545);
+        numbers.addRange(131000, 200000);
+        numbers.add(-1);
+        numbers.add(0);
+        numbers.add(1);
+        numbers.add(Integer.MAX_VALUE);
+
+        assertEquals(List.of("-1..1", "65530..65545", "131000..200000", "2147483647..2147483647"), runs(numbers));
+    }
+
+    @Test
+    void runsOfBitmapEndingAtChunkBoundary() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(0, 65535);
+        numbers.remove(100);
+        numbers.add(65537);
+
+        assertEquals(List.of("0..99", "101..65535", "65537..65537"), runs(numbers));
+    }
+
+    @Test
+    void setOperationsMatchModelAcrossContainerTypes() {
+        Random random = new Random(42);
+        ExclusionSet left = new ExclusionSet();
+        ExclusionSet right = new ExclusionSet();
+        NavigableSet<Integer> leftModel = new TreeSet<>();
+        NavigableSet<Integer> rightModel = new TreeSet<>();
+        left.addRange(0, 70000);
+        for (int value = 0; value <= 70000; value++) {
+            leftModel.add(value);
+        }
+        for (int i = 0; i < 6000; i++) {
+            int value = random.nextInt(200000);
+            right.add(value);
+            rightModel.add(value);
+        }
+
+        NavigableSet<Integer> union = new TreeSet<>(leftModel);
+        union.addAll(rightModel);
+        NavigableSet<Integer> intersection = new TreeSet<>(leftModel);
+        intersection.retainAll(rightModel);
+        NavigableSet<Integer> difference = new TreeSet<>(leftModel);
+        difference.removeAll(rightModel);
+        NavigableSet<Integer> reverseDifference = new TreeSet<>(rightModel);
+        reverseDifference.removeAll(leftModel);
+
+        assertMatches(union, left.union(right));
+        assertMatches(intersection, left.intersection(right));
+        assertMatches(difference, left.andNot(right));
+        assertMatches(reverseDifference, right.andNot(left));
+    }
+
+    private static void assertMatches(NavigableSet<Integer> expected, ExclusionSet actual) {
+        assertEquals(expected.size(), actual.size());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArray());
+        assertEquals(expected.subSet(1000, true, 70000, true).size(), actual.countInRange(1000, 70000));
+    }
+
+    private static List<String> runs(ExclusionSet numbers) {
+        List<String> runs = new ArrayList<>();
+        numbers.forEachRun((from, to) -> runs.add(from + ".." + to));
+        return runs;
+    }
+
+    private static int[] evenNumbers(int limit) {
+        int[] numbers = new int[limit / 2];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = i * 2;
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.random.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProblemCatalogTest {
+
+    @Test
+    void duplicateTitleReplacesEarlierProblem() {
+        ProblemCatalog catalog = ProblemCatalog.builder(4)
+                .add(1, "Two Sum", 1)
+                .add(2, "Add Two Numbers", 2)
+                .add(7, "Two Sum", 3)
+                .build();
+
+        assertEquals(2, catalog.size());
+        assertEquals(7, catalog.findByTitle("Two Sum").getNumber());
+        assertEquals(2, catalog.findByTitle("Add Two Numbers").getNumber());
+        assertNull(catalog.findByNumber(1));
+        assertEquals(2, catalog.asMap().size());
+    }
+
+    @Test
+    void repeatedDuplicatesWhileGrowing() {
+        ProblemCatalog.Builder builder = ProblemCatalog.builder(1);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 1000; i++) {
+                builder.add(round * 1000 + i + 1, "Problem " + i, 1 + i % 3);
+            }
+        }
+        ProblemCatalog catalog = builder.build();
+
+        assertEquals(1000, catalog.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(4000 + i + 1, catalog.findByTitle("Problem " + i).getNumber());
+            assertNull(catalog.findByNumber(i + 1));
+        }
+        assertNull(catalog.findByTitle("Problem 1000"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.random.scraper.parsers;
+
+import com.example.random.model.ProblemInfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApiJsonParserTest {
+
+    @Test
+    void parallelParseMatchesSequential() {
+        String json = apiJson(3000);
+        ApiJsonParser parser = new ApiJsonParser();
+
+        assertSameResult(parser.parse(json), parser.parseParallel(json));
+    }
+
+    @Test
+    void parallelParseOfSingleElementMatchesSequential() {
+        String json = apiJson(1);
+        ApiJsonParser parser = new ApiJsonParser();
+
+        assertSameResult(parser.parse(json), parser.parseParallel(json));
+    }
+
+    @Test
+    void bytesParseMatchesStringParseInBothModes() {
+        String json = apiJson(3000);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ApiJsonParser parser = new ApiJsonParser();
+        ApiParseResult expected = parser.parse(json);
+
+        assertSameResult(expected, parser.parse(bytes));
+        parser.setParallelParsing(true);
+        assertSameResult(expected, parser.parse(bytes));
+    }
+
+    private static void assertSameResult(ApiParseResult expected, ApiParseResult actual) {
+        assertEquals(expected.getTotalCount(), actual.getTotalCount());
+        assertEquals(expected.getSuccessfullyParsed(), actual.getSuccessfullyParsed());
+        assertEquals(expected.getErrors(), actual.getErrors());
+        assertEquals(expected.getStatistics(), actual.getStatistics());
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static List<String> describe(ApiParseResult result) {
+        List<String> problems = new ArrayList<>();
+        for (ProblemInfo problem : result.getProblems().values()) {
+            problems.add(problem.getNumber() + "|" + problem.getTitle() + "|" + problem.getDifficulty());
+        }
+        return problems;
+    }
+
+    /**
+     *  API   , --,   
+     *     ,    -ASCII 
+     */
+    private static String apiJson(int size) {
+        Random random = new Random(size);
+        StringBuilder json = new StringBuilder(size * 200);
+        json.append("{\"user_name\": \"\", \"stat_status_pairs\": [");
+        for (int i = 0; i < size; i++) {
+            int number = size - i;
+            if (i > 0) {
+                json.append(", ");
+            }
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                json.append(number);
+                continue;
+            }
+            json.append("{\"stat\": {\"frontend_question_id\": ").append(number);
+            if (kind != 1) {
+                json.append(", \"question__title\": \" \\\"").append(number).append("\\\" ")
+                        .append(Integer.toString(random.nextInt(1_000_000), 36)).append('"');
+            }
+            json.append(", \"question__title_slug\": \"problem-").append(number)
+                    .append("\", \"total_acs\": ").append(random.nextInt(5_000_000))
+                    .append(", \"total_submitted\": ").append(random.nextInt(10_000_000))
+                    .append("}, \"status\": null, \"difficulty\": {\"level\": ")
+                    .append(kind == 2 ? 7 : 1 + random.nextInt(3))
+                    .append("}, \"paid_only\": ").append(random.nextInt(10) == 0)
+                    .append(", \"tags\": [1, {\"a\": [\"]\", \",\"]}]}");
+        }
+        json.append("], \"category_slug\": \"all\"}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.random.scraper.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        Object value = new Object();
+
+        List<Future<Object>> results = callConcurrently(flight, "problems", () -> {
+            loads.incrementAndGet();
+            awaitCoalesced(flight, CALLERS - 1);
+            return value;
+        });
+
+        for (Future<Object> result : results) {
+            assertSame(value, result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, flight.coalescedCount());
+    }
+
+    @Test
+    void differentKeysLoadSeparately() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        //  "b" ,   "a"   
+        String result = flight.execute("a", () -> {
+            loads.incrementAndGet();
+            return "a" + flight.execute("b", () -> {
+                loads.incrementAndGet();
+                return "b";
+            });
+        });
+
+        assertEquals("ab", result);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    @Test
+    void finishedLoadIsNotRemembered() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, flight.execute("solved", loads::incrementAndGet));
+        assertEquals(2, flight.execute("solved", loads::incrementAndGet));
+    }
+
+    @Test
+    void failurePropagatesToEveryCaller() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<Object>> results = callConcurrently(flight, "problems", () -> {
+            loads.incrementAndGet();
+            awaitCoalesced(flight, CALLERS - 1);
+            throw new IOException("API unavailable");
+        });
+
+        for (Future<Object> result : results) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, error.getCause());
+            assertEquals("API unavailable", error.getCause().getMessage());
+        }
+        assertEquals(1, loads.get());
+
+        //       
+        assertEquals("ok", flight.execute("problems", () -> "ok"));
+    }
+
+    private List<Future<Object>> callConcurrently(SingleFlight<String, Object> flight, String key,
+                                                  SingleFlight.Loader<Object, IOException> loader) {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute(key, loader)));
+        }
+        return results;
+    }
+
+    /**
+     *  ,       
+     */
+    private static void awaitCoalesced(SingleFlight<?, ?> flight, int expected) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (flight.coalescedCount() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IOException("Callers did not join the load");
+            }
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.random.service;
+
+import com.example.random.model.ExclusionSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExclusionCodecTest {
+
+    @Test
+    void parsesNumbersAndRanges() {
+        ExclusionSet numbers = ExclusionCodec.parse("1-3, 7; 10 12\n20-20");
+
+        assertEquals(ExclusionSet.of(1, 2, 3, 7, 10, 12, 20), numbers);
+    }
+
+    @Test
+    void skipsInvalidElements() {
+        ExclusionSet numbers = ExclusionCodec.parse("5, abc, 9-, 8-2, 99999999999, 6");
+
+        assertEquals(ExclusionSet.of(5, 6), numbers);
+    }
+
+    @Test
+    void rejectsHugeRangeWithoutMaterializingIt() {
+        ExclusionSet numbers = ExclusionCodec.parse("1-2000000000, 42");
+
+        assertEquals(ExclusionSet.of(42), numbers);
+    }
+
+    @Test
+    void acceptsRangeUpToLimit() {
+        int last = ExclusionCodec.MAX_RANGE_LENGTH;
+        ExclusionSet numbers = ExclusionCodec.parse("1-" + last);
+
+        assertEquals(ExclusionCodec.MAX_RANGE_LENGTH, numbers.size());
+        assertTrue(numbers.contains(last));
+        assertFalse(ExclusionCodec.parse("1-" + (last + 1)).contains(1));
+    }
+
+    @Test
+    void formatsRunsAcrossContainerBoundaries() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(65530, 65545);
+        numbers.add(70000);
+        numbers.add(70001);
+        numbers.add(Integer.MAX_VALUE);
+
+        assertEquals("65530-65545, 70000, 70001, 2147483647", ExclusionCodec.format(numbers));
+    }
+
+    @Test
+    void formatsDenseRangesFromBitmap() {
+        ExclusionSet numbers = new ExclusionSet();
+        numbers.addRange(1, 10000);
+        numbers.remove(64);
+        numbers.remove(5000);
+
+        assertEquals("1-63, 65-4999, 5001-10000", ExclusionCodec.format(numbers));
+    }
+
+    @Test
+    void roundTripsThroughReader() throws IOException {
+        String text = "1-150, 152, 200-260, 1000, 1002";
+
+        assertEquals(text, ExclusionCodec.format(ExclusionCodec.parse(new StringReader(text))));
+    }
+}
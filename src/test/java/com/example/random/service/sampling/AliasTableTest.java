@@ -0,0 +1,90 @@
+package com.example.random.service.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AliasTableTest {
+    //    nextDouble   ;    1/STEPS 
+    private static final int STEPS = 8;
+
+    @Test
+    void givesEachIndexItsExactQuota() {
+        AliasTable table = new AliasTable(new double[]{0, 1, 2, 3, 2});
+
+        // 5   8 :    40 * weight / 8
+        assertArrayEquals(new int[]{0, 5, 10, 15, 10}, quotas(table));
+    }
+
+    @Test
+    void equalWeightsKeepOwnColumns() {
+        AliasTable table = new AliasTable(new double[]{4, 4, 4, 4});
+
+        assertArrayEquals(new int[]{8, 8, 8, 8}, quotas(table));
+    }
+
+    @Test
+    void singlePositiveWeightTakesEverything() {
+        AliasTable table = new AliasTable(new double[]{0, 0, 7, 0});
+
+        assertArrayEquals(new int[]{0, 0, 32, 0}, quotas(table));
+    }
+
+    @Test
+    void rejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{Double.POSITIVE_INFINITY}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+    }
+
+    /**
+     *    (, nextDouble)  ,     
+     */
+    private static int[] quotas(AliasTable table) {
+        int[] counts = new int[table.size()];
+        for (int column = 0; column < table.size(); column++) {
+            for (int step = 0; step < STEPS; step++) {
+                counts[table.sample(new FixedSource(column, (step + 0.5) / STEPS))]++;
+            }
+        }
+        assertEquals(table.size() * STEPS, Arrays.stream(counts).sum());
+        return counts;
+    }
+
+    private static final class FixedSource implements RandomSource {
+        private final int column;
+        private final double fraction;
+
+        FixedSource(int column, double fraction) {
+            this.column = column;
+            this.fraction = fraction;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return column;
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return column;
+        }
+
+        @Override
+        public double nextDouble() {
+            return fraction;
+        }
+
+        @Override
+        public OptionalLong seed() {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.random.service.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistinctSamplerTest {
+
+    @Test
+    void floydPicksDistinctValuesInRange() {
+        for (long seed = 0; seed < 50; seed++) {
+            RandomSource random = RandomStrategy.replay(seed);
+            int[] picked = DistinctSampler.floyd(1000, 100, random);
+
+            assertEquals(100, picked.length);
+            assertDistinctInRange(picked, 1000);
+        }
+    }
+
+    @Test
+    void floydWithKEqualToNReturnsPermutation() {
+        int[] picked = DistinctSampler.floyd(64, 64, RandomStrategy.replay(1));
+
+        BitSet seen = assertDistinctInRange(picked, 64);
+        assertEquals(64, seen.cardinality());
+    }
+
+    @Test
+    void floydCoversEveryValue() {
+        BitSet seen = new BitSet();
+        for (long seed = 0; seed < 200; seed++) {
+            for (int value : DistinctSampler.floyd(20, 3, RandomStrategy.replay(seed))) {
+                seen.set(value);
+            }
+        }
+        assertEquals(20, seen.cardinality());
+    }
+
+    @Test
+    void floydRejectsTooManyValues() {
+        assertThrows(IllegalArgumentException.class, () -> DistinctSampler.floyd(5, 6, RandomStrategy.replay(1)));
+        assertThrows(IllegalArgumentException.class, () -> DistinctSampler.floyd(5, -1, RandomStrategy.replay(1)));
+        assertEquals(0, DistinctSampler.floyd(0, 0, RandomStrategy.replay(1)).length);
+    }
+
+    @Test
+    void lazyPermutationVisitsEveryRankOnce() {
+        PrimitiveIterator.OfInt permutation = DistinctSampler.lazyPermutation(5000, RandomStrategy.replay(3));
+
+        int[] ranks = new int[5000];
+        for (int i = 0; i < ranks.length; i++) {
+            assertTrue(permutation.hasNext());
+            ranks[i] = permutation.nextInt();
+        }
+
+        assertEquals(5000, assertDistinctInRange(ranks, 5000).cardinality());
+        assertFalse(permutation.hasNext());
+        assertThrows(NoSuchElementException.class, permutation::nextInt);
+    }
+
+    private static BitSet assertDistinctInRange(int[] values, int n) {
+        BitSet seen = new BitSet(n);
+        for (int value : values) {
+            assertTrue(value >= 0 && value < n, "out of range: " + value);
+            assertFalse(seen.get(value), "repeated: " + value);
+            seen.set(value);
+        }
+        return seen;
+    }
+}
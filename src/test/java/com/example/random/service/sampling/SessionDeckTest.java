@@ -0,0 +1,140 @@
+package com.example.random.service.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionDeckTest {
+    private static final SessionDeck.Key KEY =
+            new SessionDeck.Key(1, 10, 0, 0, 0, new byte[SessionDeck.Key.DIGEST_LENGTH]);
+
+    @Test
+    void restoresSavedDeck() throws IOException {
+        SessionDeck deck = new SessionDeck(KEY, new int[]{1, 2, 3});
+
+        SessionDeck restored = SessionDeck.readFrom(input(write(deck)));
+
+        assertEquals(KEY, restored.getKey());
+        assertEquals(3, restored.remaining());
+    }
+
+    @Test
+    void drawsEveryCardOnce() {
+        SessionDeck deck = new SessionDeck(KEY, range(1000));
+        RandomSource random = RandomStrategy.replay(5);
+
+        BitSet drawn = new BitSet();
+        while (deck.hasNext()) {
+            int card = deck.next(random);
+            assertFalse(drawn.get(card), "repeated: " + card);
+            drawn.set(card);
+        }
+
+        assertEquals(1000, drawn.cardinality());
+        assertEquals(0, deck.remaining());
+        assertThrows(NoSuchElementException.class, () -> deck.next(random));
+    }
+
+    @Test
+    void restoredDeckDoesNotRepeatDrawnCards() throws IOException {
+        SessionDeck deck = new SessionDeck(KEY, range(100));
+        RandomSource random = RandomStrategy.replay(9);
+        BitSet drawn = new BitSet();
+        for (int i = 0; i < 40; i++) {
+            drawn.set(deck.next(random));
+        }
+
+        SessionDeck restored = SessionDeck.readFrom(input(write(deck)));
+        assertEquals(60, restored.remaining());
+        while (restored.hasNext()) {
+            int card = restored.next(random);
+            assertFalse(drawn.get(card), "repeated: " + card);
+            drawn.set(card);
+        }
+
+        assertEquals(100, drawn.cardinality());
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        byte[] data = write(new SessionDeck(KEY, range(3)));
+        data[0] ^= 1;
+
+        IOException error = assertThrows(IOException.class, () -> SessionDeck.readFrom(input(data)));
+        assertEquals("Not a deck state file", error.getMessage());
+    }
+
+    @Test
+    void rejectsUnknownVersion() throws IOException {
+        byte[] data = write(new SessionDeck(KEY, range(3)));
+        putInt(data, Integer.BYTES, 99);
+
+        IOException error = assertThrows(IOException.class, () -> SessionDeck.readFrom(input(data)));
+        assertEquals("Unsupported deck state version: 99", error.getMessage());
+    }
+
+    @Test
+    void rejectsPositionBeyondLength() throws IOException {
+        byte[] data = write(new SessionDeck(KEY, new int[0]));
+        putInt(data, data.length - Integer.BYTES, 1);
+
+        IOException error = assertThrows(IOException.class, () -> SessionDeck.readFrom(input(data)));
+        assertTrue(error.getMessage().startsWith("Corrupted deck state"), error.getMessage());
+    }
+
+    @Test
+    void rejectsTruncatedCards() throws IOException {
+        byte[] data = write(new SessionDeck(KEY, range(3)));
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+        assertThrows(IOException.class, () -> SessionDeck.readFrom(input(truncated)));
+    }
+
+    @Test
+    void rejectsLengthAboveLimit() throws IOException {
+        byte[] data = write(new SessionDeck(KEY, new int[0]));
+        int lengthOffset = data.length - Integer.BYTES * 2;
+        putInt(data, lengthOffset, SessionDeck.MAX_SIZE + 1);
+
+        IOException error = assertThrows(IOException.class, () -> SessionDeck.readFrom(input(data)));
+        assertTrue(error.getMessage().startsWith("Corrupted deck state"), error.getMessage());
+    }
+
+    private static byte[] write(SessionDeck deck) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            deck.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int[] range(int size) {
+        int[] cards = new int[size];
+        for (int i = 0; i < size; i++) {
+            cards[i] = i;
+        }
+        return cards;
+    }
+
+    private static DataInputStream input(byte[] data) {
+        return new DataInputStream(new ByteArrayInputStream(data));
+    }
+
+    private static void putInt(byte[] data, int offset, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            data[offset + i] = (byte) (value >>> (24 - 8 * i));
+        }
+    }
+}